@@ -7,6 +7,9 @@ GRANT ALL PRIVILEGES ON chefs_circle.* TO 'chef'@'localhost';
 FLUSH PRIVILEGES;
 
 -- Drop existing tables if they exist
+DROP TABLE IF EXISTS job_checkpoints;
+DROP TABLE IF EXISTS user_progress_rollups;
+DROP TABLE IF EXISTS lesson_completion_events;
 DROP TABLE IF EXISTS user_achievements;
 DROP TABLE IF EXISTS user_progress;
 DROP TABLE IF EXISTS user_favorite_cuisines;
@@ -102,7 +105,22 @@ CREATE TABLE user_progress (
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
     FOREIGN KEY (lesson_id) REFERENCES lessons(id) ON DELETE CASCADE,
-    UNIQUE KEY unique_user_lesson (user_id, lesson_id)
+    UNIQUE KEY unique_user_lesson (user_id, lesson_id),
+    INDEX idx_user_progress_user_page (user_id, id),
+    INDEX idx_user_progress_completed_at (completed_at),
+    INDEX idx_user_progress_user_status (user_id, status)
+);
+
+-- Create lesson_completion_events table (outbox for asynchronous XP/achievement processing)
+CREATE TABLE lesson_completion_events (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id INT NOT NULL,
+    lesson_id INT NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    processed_at TIMESTAMP NULL,
+    INDEX idx_completion_events_pending (processed_at, id),
+    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
+    FOREIGN KEY (lesson_id) REFERENCES lessons(id) ON DELETE CASCADE
 );
 
 -- Create streak table
@@ -112,7 +130,30 @@ CREATE TABLE streak (
     curr_streak INT DEFAULT 0,
     longest_streak INT DEFAULT 0,
     last_active_dt DATE,
-    FOREIGN KEY (usr_id) REFERENCES users(id) ON DELETE CASCADE
+    -- One bit per active day starting at activity_origin (see StreakService)
+    activity_origin DATE NULL,
+    activity_bits VARBINARY(512) NULL,
+    FOREIGN KEY (usr_id) REFERENCES users(id) ON DELETE CASCADE,
+    UNIQUE KEY unique_streak_user (usr_id)
+);
+
+-- Create user progress rollups table (completed lessons per user per skill / cuisine, see ProgressRollupService)
+CREATE TABLE user_progress_rollups (
+    user_id INT NOT NULL,
+    scope_type VARCHAR(8) NOT NULL,
+    scope_id INT NOT NULL,
+    completed INT NOT NULL DEFAULT 0,
+    PRIMARY KEY (user_id, scope_type, scope_id),
+    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+);
+
+-- Create job checkpoints table (resume point for chunked background jobs such as the streak rollover)
+CREATE TABLE job_checkpoints (
+    job_name VARCHAR(64) PRIMARY KEY,
+    run_date DATE NULL,
+    last_id BIGINT NOT NULL DEFAULT 0,
+    completed BOOLEAN NOT NULL DEFAULT FALSE,
+    updated_at TIMESTAMP NULL
 );
 
 -- Create achievements table
@@ -120,7 +161,13 @@ CREATE TABLE achievements (
     id INT AUTO_INCREMENT PRIMARY KEY,
     title VARCHAR(255) NOT NULL,
     description TEXT,
-    icon VARCHAR(255)
+    icon VARCHAR(255),
+    -- Unlock rule: LESSONS_IN_CUISINE, LESSONS_TOTAL, XP or STREAK (NULL = awarded manually)
+    rule_type VARCHAR(32) DEFAULT NULL,
+    -- Cuisine id for LESSONS_IN_CUISINE
+    rule_target_id INT DEFAULT NULL,
+    -- Count/XP/days to reach; NULL with LESSONS_IN_CUISINE means every lesson in the cuisine
+    rule_threshold INT DEFAULT NULL
 );
 
 -- Create user_achievements table
@@ -1166,17 +1213,17 @@ INSERT INTO user_progress (user_id, lesson_id, status, completed_at, score, crea
 (13, 4, 'completed', '2025-01-08 09:00:00', 100, NOW());
 
 -- Insert achievements data
-INSERT INTO achievements (title, description, icon) VALUES
-('Italian Novice', 'Your journey into Italian cuisine has begun! You''ve completed your first recipe.', 'it'),
-('Italian Intermediate', 'You''re getting the hang of it! You''ve completed three Italian recipes.', 'it'),
-('Italian Expert', 'Mamma mia! You''ve mastered the art of Italian cooking by completing all recipes.', 'it'),
-('Italian Ultra Expert', 'You have transcended Italian cuisine, mastering advanced techniques and regional specialties beyond all recipes.', 'it'),
-('Japanese Novice', 'A new path unfolds. You''ve completed your first Japanese recipe.', 'jp'),
-('Japanese Intermediate', 'Your skills are sharpening. You''ve completed three Japanese recipes.', 'jp'),
-('Japanese Expert', 'You have achieved culinary harmony. You''ve mastered all Japanese recipes.', 'jp'),
-('Mexican Novice', '¡Qué bueno! You''ve cooked your first Mexican dish.', 'mx'),
-('Mexican Intermediate', 'You''re spicing things up! You''ve completed three Mexican recipes.', 'mx'),
-('Mexican Expert', 'You are a master of Mexican flavor! You''ve completed all Mexican recipes.', 'mx');
+INSERT INTO achievements (title, description, icon, rule_type, rule_target_id, rule_threshold) VALUES
+('Italian Novice', 'Your journey into Italian cuisine has begun! You''ve completed your first recipe.', 'it', 'LESSONS_IN_CUISINE', 1, 1),
+('Italian Intermediate', 'You''re getting the hang of it! You''ve completed three Italian recipes.', 'it', 'LESSONS_IN_CUISINE', 1, 3),
+('Italian Expert', 'Mamma mia! You''ve mastered the art of Italian cooking by completing all recipes.', 'it', 'LESSONS_IN_CUISINE', 1, NULL),
+('Italian Ultra Expert', 'You have transcended Italian cuisine, mastering advanced techniques and regional specialties beyond all recipes.', 'it', NULL, NULL, NULL),
+('Japanese Novice', 'A new path unfolds. You''ve completed your first Japanese recipe.', 'jp', 'LESSONS_IN_CUISINE', 2, 1),
+('Japanese Intermediate', 'Your skills are sharpening. You''ve completed three Japanese recipes.', 'jp', 'LESSONS_IN_CUISINE', 2, 3),
+('Japanese Expert', 'You have achieved culinary harmony. You''ve mastered all Japanese recipes.', 'jp', 'LESSONS_IN_CUISINE', 2, NULL),
+('Mexican Novice', '¡Qué bueno! You''ve cooked your first Mexican dish.', 'mx', 'LESSONS_IN_CUISINE', 3, 1),
+('Mexican Intermediate', 'You''re spicing things up! You''ve completed three Mexican recipes.', 'mx', 'LESSONS_IN_CUISINE', 3, 3),
+('Mexican Expert', 'You are a master of Mexican flavor! You''ve completed all Mexican recipes.', 'mx', 'LESSONS_IN_CUISINE', 3, NULL);
 
 -- Insert user_achievements data (uncommented and expanded)
 INSERT INTO user_achievements (user_id, achievement_id) VALUES
@@ -0,0 +1,47 @@
+package com.chefscircle.backend.controller;
+
+import java.util.Map;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.chefscircle.backend.service.SecondLevelCacheService;
+
+/**
+ * Admin endpoints for the Hibernate second-level cache.
+ */
+@RestController
+@RequestMapping("/api/cache")
+@CrossOrigin(origins = "*")
+public class CacheController {
+
+    private final SecondLevelCacheService cacheService;
+
+    public CacheController(SecondLevelCacheService cacheService) {
+        this.cacheService = cacheService;
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, Object>> getStatistics() {
+        return ResponseEntity.ok(cacheService.getStatistics());
+    }
+
+    @PostMapping("/regions/{region}/evict")
+    public ResponseEntity<?> evictRegion(@PathVariable String region) {
+        if (!cacheService.evictRegion(region)) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/evict")
+    public ResponseEntity<?> evictAll() {
+        cacheService.evictAll();
+        return ResponseEntity.noContent().build();
+    }
+}
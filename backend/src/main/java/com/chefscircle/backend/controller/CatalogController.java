@@ -0,0 +1,36 @@
+package com.chefscircle.backend.controller;
+
+import java.util.Map;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.chefscircle.backend.service.CatalogService;
+import com.chefscircle.backend.service.CatalogSnapshot;
+
+/**
+ * Admin hook for refreshing the in-memory catalog after content edits.
+ */
+@RestController
+@RequestMapping("/api/catalog")
+@CrossOrigin(origins = "*")
+public class CatalogController {
+
+    private final CatalogService catalogService;
+
+    public CatalogController(CatalogService catalogService) {
+        this.catalogService = catalogService;
+    }
+
+    @PostMapping("/reload")
+    public ResponseEntity<Map<String, Integer>> reload() {
+        CatalogSnapshot snapshot = catalogService.reload();
+        return ResponseEntity.ok(Map.of(
+                "cuisines", snapshot.getCuisines().size(),
+                "skills", snapshot.getSkills().size(),
+                "lessons", snapshot.getLessons().size()));
+    }
+}
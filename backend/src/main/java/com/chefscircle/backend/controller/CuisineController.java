@@ -1,12 +1,13 @@
 package com.chefscircle.backend.controller;
 
 import com.chefscircle.backend.model.Cuisine;
-import com.chefscircle.backend.repository.CuisineRepository;
+import com.chefscircle.backend.model.CuisineTreeDTO;
+import com.chefscircle.backend.service.CatalogService;
+import com.chefscircle.backend.service.CuisineTreeService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
-import java.util.Optional;
 
 /**
  * Handles API requests related to culinary cuisines.
@@ -16,23 +17,36 @@ import java.util.Optional;
 @CrossOrigin(origins = "*")
 public class CuisineController {
 
-    private final CuisineRepository cuisineRepository;
+    private final CatalogService catalogService;
+    private final CuisineTreeService cuisineTreeService;
 
-    public CuisineController(CuisineRepository cuisineRepository) {
-        this.cuisineRepository = cuisineRepository;
+    public CuisineController(CatalogService catalogService, CuisineTreeService cuisineTreeService) {
+        this.catalogService = catalogService;
+        this.cuisineTreeService = cuisineTreeService;
     }
 
     @GetMapping
     public ResponseEntity<List<Cuisine>> getAllCuisines() {
-        List<Cuisine> cuisines = cuisineRepository.findAll();
+        List<Cuisine> cuisines = catalogService.getSnapshot().getCuisines();
         return ResponseEntity.ok(cuisines);
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<Cuisine> getCuisineById(@PathVariable Long id) {
-        Optional<Cuisine> cuisine = cuisineRepository.findById(id);
-        
-        return cuisine.map(ResponseEntity::ok)
+        return catalogService.getSnapshot().findCuisine(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Returns the cuisine with its ordered skills and lessons in one response.
+     * Pass userId to have each lesson's progress status merged in.
+     */
+    @GetMapping("/{id}/tree")
+    public ResponseEntity<CuisineTreeDTO> getCuisineTree(@PathVariable Long id,
+                                                         @RequestParam(required = false) Long userId) {
+        return cuisineTreeService.getTree(id, userId)
+                .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
 }
\ No newline at end of file
@@ -0,0 +1,47 @@
+package com.chefscircle.backend.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.chefscircle.backend.model.LeaderboardEntryDTO;
+import com.chefscircle.backend.model.LeaderboardPositionDTO;
+import com.chefscircle.backend.service.LeaderboardService;
+
+@RestController
+@RequestMapping("/api/leaderboard")
+@CrossOrigin(origins = "*")
+public class LeaderboardController {
+
+    private static final int MAX_LIMIT = 100;
+    private static final int MAX_RADIUS = 50;
+
+    private final LeaderboardService leaderboardService;
+
+    public LeaderboardController(LeaderboardService leaderboardService) {
+        this.leaderboardService = leaderboardService;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<LeaderboardEntryDTO>> getTop(@RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(leaderboardService.top(clamp(limit, 1, MAX_LIMIT)));
+    }
+
+    @GetMapping("/user/{userId}")
+    public ResponseEntity<LeaderboardPositionDTO> getUserPosition(@PathVariable Long userId,
+                                                                  @RequestParam(defaultValue = "5") int radius) {
+        return leaderboardService.positionOf(userId, clamp(radius, 0, MAX_RADIUS))
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    private static int clamp(int value, int min, int max) {
+        return Math.max(min, Math.min(max, value));
+    }
+}
@@ -2,65 +2,97 @@ package com.chefscircle.backend.controller;
 
 import com.chefscircle.backend.model.Lesson;
 import com.chefscircle.backend.model.LessonContent;
-import com.chefscircle.backend.model.Quiz;
-import com.chefscircle.backend.repository.LessonRepository;
+import com.chefscircle.backend.model.PageDTO;
+import com.chefscircle.backend.model.QuizAttemptDTO;
+import com.chefscircle.backend.model.QuizAttemptResultDTO;
+import com.chefscircle.backend.model.QuizQuestionDTO;
 import com.chefscircle.backend.repository.LessonContentRepository;
 import com.chefscircle.backend.repository.QuizRepository;
+import com.chefscircle.backend.service.CatalogService;
+import com.chefscircle.backend.service.FullLessonCache;
+import com.chefscircle.backend.service.KeysetPaging;
+import com.chefscircle.backend.service.QuizAttemptService;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
-import java.util.Map;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/lessons")
 @CrossOrigin(origins = "*")
 public class LessonController {
 
-    private final LessonRepository lessonRepository;
     private final LessonContentRepository lessonContentRepository;
     private final QuizRepository quizRepository;
+    private final CatalogService catalogService;
+    private final FullLessonCache fullLessonCache;
+    private final QuizAttemptService quizAttemptService;
 
-    public LessonController(LessonRepository lessonRepository, 
-                            LessonContentRepository lessonContentRepository, 
-                            QuizRepository quizRepository) {
-        this.lessonRepository = lessonRepository;
+    public LessonController(LessonContentRepository lessonContentRepository, 
+                            QuizRepository quizRepository,
+                            CatalogService catalogService,
+                            FullLessonCache fullLessonCache,
+                            QuizAttemptService quizAttemptService) {
         this.lessonContentRepository = lessonContentRepository;
         this.quizRepository = quizRepository;
+        this.catalogService = catalogService;
+        this.fullLessonCache = fullLessonCache;
+        this.quizAttemptService = quizAttemptService;
     }
 
     @GetMapping
-    public ResponseEntity<List<Lesson>> getAllLessons() {
-        // Simple passthrough keeping controller thin by delegating to repository
-        List<Lesson> lessons = lessonRepository.findAll();
-        return ResponseEntity.ok(lessons);
+    public ResponseEntity<PageDTO<Lesson>> getLessons(@RequestParam(required = false) Long after,
+                                                      @RequestParam(defaultValue = "50") int limit,
+                                                      @RequestParam(defaultValue = "false") boolean includeTotal) {
+        // Simple passthrough keeping controller thin by delegating to the catalog
+        int pageSize = KeysetPaging.clampLimit(limit);
+        List<Lesson> lessons = catalogService.getSnapshot().getLessons();
+        List<Lesson> fetched = KeysetPaging.sliceAfter(lessons, Lesson::getId, after, pageSize);
+        Long total = includeTotal ? (long) lessons.size() : null;
+        return ResponseEntity.ok(PageDTO.of(fetched, pageSize, Lesson::getId, total));
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<Lesson> getLessonById(@PathVariable Long id) {
-        return lessonRepository.findById(id)
+        return catalogService.getSnapshot().findLesson(id)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
     
-    // Convenience endpoint that aggregates lesson content and quizzes
-    // FIXME This may duplicate data across calls consider ETag caching later
+    // Convenience endpoint that aggregates lesson content and quizzes.
+    // Served from pre-rendered bytes with a strong ETag so repeat opens can be answered with 304.
     @GetMapping("/{id}/full")
-    public ResponseEntity<Map<String, Object>> getFullLesson(@PathVariable Long id) {
-        return lessonRepository.findById(id)
-                .map(lesson -> {
-                    List<LessonContent> content = lessonContentRepository.findByLessonIdOrderByOrderIndex(id);
-                    List<Quiz> quizzes = quizRepository.findByLessonIdOrderByOrderIndex(id);
-                    
-                    Map<String, Object> fullLesson = Map.of(
-                        "lesson", lesson,
-                        "content", content,
-                        "quizzes", quizzes
-                    );
-                    
-                    return ResponseEntity.ok(fullLesson);
-                })
-                .orElse(ResponseEntity.notFound().build());
+    public ResponseEntity<byte[]> getFullLesson(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        Optional<FullLessonCache.Payload> cached = fullLessonCache.get(id);
+        if (cached.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        FullLessonCache.Payload payload = cached.get();
+        if (payload.matches(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(payload.getEtag())
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(payload.getEtag())
+                .cacheControl(CacheControl.noCache())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.APPLICATION_JSON);
+        if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(payload.getGzippedJson());
+        }
+        return response.body(payload.getJson());
     }
 
     @GetMapping("/{id}/content")
@@ -70,14 +102,36 @@ public class LessonController {
     }
 
     @GetMapping("/{id}/quizzes")
-    public ResponseEntity<List<Quiz>> getLessonQuizzes(@PathVariable Long id) {
-        List<Quiz> quizzes = quizRepository.findByLessonIdOrderByOrderIndex(id);
+    public ResponseEntity<List<QuizQuestionDTO>> getLessonQuizzes(@PathVariable Long id) {
+        List<QuizQuestionDTO> quizzes = quizRepository.findByLessonIdOrderByOrderIndex(id).stream()
+                .map(QuizQuestionDTO::of)
+                .toList();
         return ResponseEntity.ok(quizzes);
     }
 
+    // Grades all answers in one request and completes the lesson in the same transaction when they are all correct
+    @PostMapping("/{id}/quiz-attempts")
+    public ResponseEntity<QuizAttemptResultDTO> submitQuizAttempt(@PathVariable Long id,
+                                                                  @RequestBody QuizAttemptDTO attempt) {
+        if (catalogService.getSnapshot().findLesson(id).isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (attempt.getUserId() == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            return quizAttemptService.submit(id, attempt)
+                    .map(ResponseEntity::ok)
+                    .orElse(ResponseEntity.badRequest().build());
+        } catch (DataIntegrityViolationException e) {
+            System.out.println("Data integrity violation grading quiz attempt: " + e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @GetMapping("/skill/{skillId}")
     public ResponseEntity<List<Lesson>> getLessonsBySkill(@PathVariable Long skillId) {
-        List<Lesson> lessons = lessonRepository.findBySkillIdOrderByOrderIndex(skillId);
+        List<Lesson> lessons = catalogService.getSnapshot().getLessonsBySkill(skillId);
         return ResponseEntity.ok(lessons);
     }
 }
\ No newline at end of file
@@ -0,0 +1,45 @@
+package com.chefscircle.backend.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.chefscircle.backend.model.ProgressRollupDTO;
+import com.chefscircle.backend.model.UserProgressRollup;
+import com.chefscircle.backend.service.ProgressRollupService;
+
+@RestController
+@RequestMapping("/api/progress-rollups")
+@CrossOrigin(origins = "*")
+public class ProgressRollupController {
+
+    private final ProgressRollupService progressRollupService;
+
+    public ProgressRollupController(ProgressRollupService progressRollupService) {
+        this.progressRollupService = progressRollupService;
+    }
+
+    @GetMapping("/user/{userId}")
+    public List<ProgressRollupDTO> getRollups(@PathVariable Long userId) {
+        return progressRollupService.getRollups(userId);
+    }
+
+    @GetMapping("/user/{userId}/skill/{skillId}")
+    public ResponseEntity<ProgressRollupDTO> getSkillRollup(@PathVariable Long userId, @PathVariable Long skillId) {
+        return progressRollupService.getRollup(userId, UserProgressRollup.SCOPE_SKILL, skillId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/user/{userId}/cuisine/{cuisineId}")
+    public ResponseEntity<ProgressRollupDTO> getCuisineRollup(@PathVariable Long userId, @PathVariable Long cuisineId) {
+        return progressRollupService.getRollup(userId, UserProgressRollup.SCOPE_CUISINE, cuisineId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
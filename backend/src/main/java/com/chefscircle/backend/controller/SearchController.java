@@ -0,0 +1,52 @@
+package com.chefscircle.backend.controller;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.chefscircle.backend.model.SearchResultDTO;
+import com.chefscircle.backend.service.KeysetPaging;
+import com.chefscircle.backend.service.LessonSearchService;
+
+/**
+ * Full-text search over lessons, their content and quiz questions.
+ */
+@RestController
+@RequestMapping("/api/search")
+@CrossOrigin(origins = "*")
+public class SearchController {
+
+    private final LessonSearchService lessonSearchService;
+
+    public SearchController(LessonSearchService lessonSearchService) {
+        this.lessonSearchService = lessonSearchService;
+    }
+
+    @GetMapping("/lessons")
+    public ResponseEntity<List<SearchResultDTO>> searchLessons(@RequestParam(defaultValue = "") String q,
+                                                               @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(lessonSearchService.search(q, KeysetPaging.clampLimit(limit)));
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, Integer>> getStatistics() {
+        return ResponseEntity.ok(lessonSearchService.getStatistics());
+    }
+
+    // Admin hook: picks up an edit to one lesson's text without a full catalog reload
+    @PostMapping("/lessons/{id}/reindex")
+    public ResponseEntity<?> reindexLesson(@PathVariable Long id) {
+        if (!lessonSearchService.reindexLesson(id)) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.noContent().build();
+    }
+}
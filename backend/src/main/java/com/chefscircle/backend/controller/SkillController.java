@@ -1,7 +1,9 @@
 package com.chefscircle.backend.controller;
 
+import com.chefscircle.backend.model.PageDTO;
 import com.chefscircle.backend.model.Skill;
-import com.chefscircle.backend.repository.SkillRepository;
+import com.chefscircle.backend.service.CatalogService;
+import com.chefscircle.backend.service.KeysetPaging;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -14,24 +16,30 @@ import java.util.List;
 public class SkillController {
 
     @Autowired
-    private SkillRepository skillRepository;
+    private CatalogService catalogService;
 
     @GetMapping
-    public ResponseEntity<List<Skill>> getAllSkills() {
-        List<Skill> skills = skillRepository.findAll();
-        return ResponseEntity.ok(skills);
+    public ResponseEntity<PageDTO<Skill>> getSkills(@RequestParam(required = false) Long after,
+                                                    @RequestParam(defaultValue = "50") int limit,
+                                                    @RequestParam(defaultValue = "false") boolean includeTotal) {
+        int pageSize = KeysetPaging.clampLimit(limit);
+        List<Skill> skills = catalogService.getSnapshot().getSkills();
+        List<Skill> fetched = KeysetPaging.sliceAfter(skills, Skill::getId, after, pageSize);
+        // The snapshot knows its exact size, so the "estimate" here is free and exact
+        Long total = includeTotal ? (long) skills.size() : null;
+        return ResponseEntity.ok(PageDTO.of(fetched, pageSize, Skill::getId, total));
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<Skill> getSkillById(@PathVariable Long id) {
-        return skillRepository.findById(id)
+        return catalogService.getSnapshot().findSkill(id)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
 
     @GetMapping("/cuisine/{cuisineId}")
     public ResponseEntity<List<Skill>> getSkillsByCuisine(@PathVariable Long cuisineId) {
-        List<Skill> skills = skillRepository.findByCuisineIdOrderByOrderIndex(cuisineId);
+        List<Skill> skills = catalogService.getSnapshot().getSkillsByCuisine(cuisineId);
         return ResponseEntity.ok(skills);
     }
 } 
\ No newline at end of file
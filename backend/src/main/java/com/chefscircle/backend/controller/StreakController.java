@@ -1,12 +1,17 @@
 package com.chefscircle.backend.controller;
 
+import com.chefscircle.backend.model.PageDTO;
 import com.chefscircle.backend.model.Streak;
-import com.chefscircle.backend.model.User;
+import com.chefscircle.backend.model.StreakDTO;
 import com.chefscircle.backend.repository.StreakRepository;
-import com.chefscircle.backend.repository.UserRepository;
+import com.chefscircle.backend.service.KeysetPaging;
+import com.chefscircle.backend.service.LeaderboardService;
+import com.chefscircle.backend.service.StreakService;
+import com.chefscircle.backend.service.TableStatsService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.*;
 
 @RestController
@@ -14,39 +19,47 @@ import java.util.*;
 public class StreakController {
 
     private final StreakRepository streakRepository;
-    private final UserRepository userRepository;
+    private final StreakService streakService;
+    private final LeaderboardService leaderboardService;
+    private final TableStatsService tableStatsService;
 
-    public StreakController(StreakRepository streakRepository, UserRepository userRepository) {
+    public StreakController(StreakRepository streakRepository, StreakService streakService,
+                            LeaderboardService leaderboardService,
+                            TableStatsService tableStatsService) {
         this.streakRepository = streakRepository;
-        this.userRepository = userRepository;
+        this.streakService = streakService;
+        this.leaderboardService = leaderboardService;
+        this.tableStatsService = tableStatsService;
     }
 
     @GetMapping
-    public List<Streak> getAllStreaks() {
-        return streakRepository.findAll();
+    public PageDTO<Streak> getStreaks(@RequestParam(required = false) Long after,
+                                      @RequestParam(defaultValue = "50") int limit,
+                                      @RequestParam(defaultValue = "false") boolean includeTotal) {
+        int pageSize = KeysetPaging.clampLimit(limit);
+        List<Streak> fetched = streakRepository.findByIdGreaterThanOrderByIdAsc(
+                KeysetPaging.cursor(after), KeysetPaging.fetchLimit(pageSize));
+        Long total = includeTotal ? tableStatsService.estimateRowCount("streak") : null;
+        return PageDTO.of(fetched, pageSize, Streak::getId, total);
     }
 
     @GetMapping("/user/{userId}")
-    public ResponseEntity<?> getStreaksByUser(@PathVariable Long userId) {
-        Optional<User> userOpt = userRepository.findById(userId);
-        if (userOpt.isEmpty()) {
+    public ResponseEntity<?> getStreakByUser(@PathVariable Long userId) {
+        if (leaderboardService.findXp(userId).isEmpty()) {
             return ResponseEntity.notFound().build();
         }
-        List<Streak> streaks = streakRepository.findByUser(userOpt.get());
-        return ResponseEntity.ok(streaks);
+        StreakDTO streak = streakService.getStreak(userId)
+                .orElse(new StreakDTO(userId, 0, 0, null, false));
+        return ResponseEntity.ok(streak);
     }
 
+    // Records that the user was active today. Streak values are derived on the server,
+    // so anything the client sends in the body is ignored.
     @PostMapping("/user/{userId}")
-    public ResponseEntity<?> addOrUpdateStreak(
-            @PathVariable Long userId,
-            @RequestBody Streak streakData
-    ) {
-        Optional<User> userOpt = userRepository.findById(userId);
-        if (userOpt.isEmpty()) {
+    public ResponseEntity<?> recordActivity(@PathVariable Long userId) {
+        if (leaderboardService.findXp(userId).isEmpty()) {
             return ResponseEntity.notFound().build();
         }
-        streakData.setUser(userOpt.get());
-        Streak savedStreak = streakRepository.save(streakData);
-        return ResponseEntity.ok(savedStreak);
+        return ResponseEntity.ok(streakService.recordActivity(userId, List.of(LocalDate.now())));
     }
 }
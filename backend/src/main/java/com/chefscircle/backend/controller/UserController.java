@@ -1,9 +1,11 @@
 package com.chefscircle.backend.controller;
 
-import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -12,59 +14,92 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.chefscircle.backend.model.AvailabilityDTO;
+import com.chefscircle.backend.model.DashboardDTO;
+import com.chefscircle.backend.model.PageDTO;
 import com.chefscircle.backend.model.User;
+import com.chefscircle.backend.service.DashboardService;
+import com.chefscircle.backend.service.KeysetPaging;
+import com.chefscircle.backend.service.PasswordHashingService;
+import com.chefscircle.backend.service.RateLimitService;
+import com.chefscircle.backend.service.UserAvailabilityService;
 import com.chefscircle.backend.service.UserService;
 
+import jakarta.servlet.http.HttpServletRequest;
+
 @RestController
 @RequestMapping("/api/users")
 public class UserController {
 
     private final UserService userService;
+    private final DashboardService dashboardService;
+    private final UserAvailabilityService availabilityService;
+    private final RateLimitService rateLimitService;
+    private final PasswordHashingService passwordHashingService;
 
     // Constructor injection for dependency management
-    public UserController(UserService userService) {
+    public UserController(UserService userService, DashboardService dashboardService,
+                          UserAvailabilityService availabilityService, RateLimitService rateLimitService,
+                          PasswordHashingService passwordHashingService) {
         this.userService = userService;
+        this.dashboardService = dashboardService;
+        this.availabilityService = availabilityService;
+        this.rateLimitService = rateLimitService;
+        this.passwordHashingService = passwordHashingService;
     }
 
     @GetMapping
-    public List<User> getAllUsers() {
-        return userService.getAllUsers();
+    public PageDTO<User> getUsers(@RequestParam(required = false) Long after,
+                                  @RequestParam(defaultValue = "50") int limit,
+                                  @RequestParam(defaultValue = "false") boolean includeTotal) {
+        return userService.getUsersPage(after, KeysetPaging.clampLimit(limit), includeTotal);
     }
 
     @PostMapping("/login")
-    public ResponseEntity<?> login(@RequestBody Map<String, String> credentials) {
+    public CompletableFuture<ResponseEntity<?>> login(@RequestBody Map<String, String> credentials,
+                                                      HttpServletRequest request) {
         String email = credentials.get("email");
         String password = credentials.get("password");
 
-        // Minimal validation real apps would add rate limits and CAPTCHA
+        // Rate limited per client IP and per email before anything touches the database
+        long retryAfter = rateLimitService.checkLogin(request.getRemoteAddr(), email);
+        if (retryAfter > 0) {
+            return CompletableFuture.completedFuture(
+                    tooManyRequests(retryAfter).body("Too many login attempts, please try again later"));
+        }
+
         if (email == null || email.trim().isEmpty()) {
-            return ResponseEntity.badRequest().body("Email is required");
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().body("Email is required"));
         }
         
         if (password == null || password.trim().isEmpty()) {
-            return ResponseEntity.badRequest().body("Password is required");
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().body("Password is required"));
         }
 
-        // Delegate authentication to service layer
-        Optional<User> authenticatedUser = userService.authenticateUser(email, password);
-
-        if (authenticatedUser.isPresent()) {
-            return ResponseEntity.ok(authenticatedUser.get());
-        } else {
-            return ResponseEntity.status(401).body("Invalid email or password");
-        }
+        // The password check runs on the hashing pool; the request thread is released meanwhile
+        return userService.authenticateUser(email, password)
+                .<ResponseEntity<?>>thenApply(authenticatedUser -> authenticatedUser.isPresent()
+                        ? ResponseEntity.ok(authenticatedUser.get())
+                        : ResponseEntity.status(401).body("Invalid email or password"))
+                .exceptionally(UserService::serviceBusyOrRethrow);
     }
 
     @PostMapping("/signup")
-    public ResponseEntity<?> signup(@RequestBody User newUser) {
+    public CompletableFuture<ResponseEntity<?>> signup(@RequestBody User newUser, HttpServletRequest request) {
+        long retryAfter = rateLimitService.checkSignup(request.getRemoteAddr());
+        if (retryAfter > 0) {
+            return CompletableFuture.completedFuture(
+                    tooManyRequests(retryAfter).body("Too many signup attempts, please try again later"));
+        }
         // Delegate user creation to service layer
         return userService.createUser(newUser);
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<?> updateUser(@PathVariable Long id, @RequestBody User updatedUser) {
+    public CompletableFuture<ResponseEntity<?>> updateUser(@PathVariable Long id, @RequestBody User updatedUser) {
         // Delegate user update to service layer
         return userService.updateUser(id, updatedUser);
     }
@@ -80,6 +115,50 @@ public class UserController {
         }
     }
 
+    // Profile, progress, achievements, favorites and streak in one round trip for app open
+    @GetMapping("/{id}/dashboard")
+    public ResponseEntity<DashboardDTO> getDashboard(@PathVariable Long id) {
+        return dashboardService.getDashboard(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    // Live signup-form check; most answers come from the in-memory filter without touching the database
+    @GetMapping("/availability")
+    public ResponseEntity<AvailabilityDTO> checkAvailability(@RequestParam(required = false) String username,
+                                                             @RequestParam(required = false) String email,
+                                                             HttpServletRequest request) {
+        long retryAfter = rateLimitService.checkAvailability(request.getRemoteAddr());
+        if (retryAfter > 0) {
+            return tooManyRequests(retryAfter).build();
+        }
+        boolean hasUsername = username != null && !username.isBlank();
+        boolean hasEmail = email != null && !email.isBlank();
+        if (!hasUsername && !hasEmail) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(new AvailabilityDTO(
+                hasUsername ? username : null,
+                hasUsername ? !availabilityService.isUsernameTaken(username) : null,
+                hasEmail ? email : null,
+                hasEmail ? !availabilityService.isEmailTaken(email) : null));
+    }
+
+    @GetMapping("/availability/stats")
+    public ResponseEntity<Map<String, Object>> getAvailabilityStatistics() {
+        return ResponseEntity.ok(availabilityService.getStatistics());
+    }
+
+    @GetMapping("/rate-limits/stats")
+    public ResponseEntity<Map<String, Integer>> getRateLimitStatistics() {
+        return ResponseEntity.ok(rateLimitService.getStatistics());
+    }
+
+    @GetMapping("/password-hashing/stats")
+    public ResponseEntity<Map<String, Object>> getPasswordHashingStatistics() {
+        return ResponseEntity.ok(passwordHashingService.getStatistics());
+    }
+
     @GetMapping("/email/{email}")
     public ResponseEntity<?> getUserByEmail(@PathVariable String email) {
         Optional<User> user = userService.findUserByEmail(email);
@@ -119,4 +198,8 @@ public class UserController {
         }
     }
 
-}
\ No newline at end of file
+    private static ResponseEntity.BodyBuilder tooManyRequests(long retryAfterSeconds) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+    }
+}
@@ -15,8 +15,8 @@ import org.springframework.web.bind.annotation.RestController;
 import com.chefscircle.backend.model.Cuisine;
 import com.chefscircle.backend.model.UserFavoriteCuisine;
 import com.chefscircle.backend.model.UserFavoriteCuisineId;
-import com.chefscircle.backend.repository.CuisineRepository;
 import com.chefscircle.backend.repository.UserFavoriteCuisineRepository;
+import com.chefscircle.backend.service.FavoriteCuisineService;
 
 @RestController
 @RequestMapping("/api/users/{userId}/favorites")
@@ -24,23 +24,17 @@ import com.chefscircle.backend.repository.UserFavoriteCuisineRepository;
 public class UserFavoritesController {
 
     private final UserFavoriteCuisineRepository favoritesRepository;
-    private final CuisineRepository cuisineRepository;
+    private final FavoriteCuisineService favoriteCuisineService;
 
     public UserFavoritesController(UserFavoriteCuisineRepository favoritesRepository,
-                                   CuisineRepository cuisineRepository) {
+                                   FavoriteCuisineService favoriteCuisineService) {
         this.favoritesRepository = favoritesRepository;
-        this.cuisineRepository = cuisineRepository;
+        this.favoriteCuisineService = favoriteCuisineService;
     }
 
     @GetMapping("/cuisines")
     public ResponseEntity<List<Cuisine>> listFavoriteCuisines(@PathVariable Long userId) {
-        List<Long> cuisineIds = favoritesRepository.findByIdUserId(userId)
-            .stream()
-            .map(f -> f.getId().getCuisineId())
-            .toList();
-
-        List<Cuisine> cuisines = cuisineRepository.findAllById(cuisineIds);
-        return ResponseEntity.ok(cuisines);
+        return ResponseEntity.ok(favoriteCuisineService.listFavoriteCuisines(userId));
     }
 
     @PostMapping("/cuisines/{cuisineId}")
@@ -1,33 +1,43 @@
 package com.chefscircle.backend.controller;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.chefscircle.backend.model.CompletedLessonsDTO;
 import com.chefscircle.backend.model.Lesson;
-import com.chefscircle.backend.model.Skill;
-import com.chefscircle.backend.model.User;
-import com.chefscircle.backend.model.UserAchievement;
-import com.chefscircle.backend.model.UserAchievementId;
+import com.chefscircle.backend.model.PageDTO;
+import com.chefscircle.backend.model.ProgressBatchResultDTO;
+import com.chefscircle.backend.model.ProgressUpdateResultDTO;
 import com.chefscircle.backend.model.UserProgress;
-import com.chefscircle.backend.repository.LessonRepository;
-import com.chefscircle.backend.repository.SkillRepository;
-import com.chefscircle.backend.repository.UserAchievementRepository;
 import com.chefscircle.backend.repository.UserProgressRepository;
-import com.chefscircle.backend.repository.UserRepository;
+import com.chefscircle.backend.service.CompletedLessonIndex;
+import com.chefscircle.backend.service.KeysetPaging;
+import com.chefscircle.backend.service.LessonUnlockService;
+import com.chefscircle.backend.service.ProgressBatchService;
+import com.chefscircle.backend.service.ProgressUpdateService;
+import com.chefscircle.backend.service.UserProgressExportService;
+
+import jakarta.servlet.http.HttpServletRequest;
 
 
 @RestController
@@ -35,32 +45,47 @@ import com.chefscircle.backend.repository.UserRepository;
 @CrossOrigin(origins = "*")
 public class UserProgressController {
 
+    private static final Set<String> STATUSES = Set.of("locked", "available", "completed");
+
     private final UserProgressRepository userProgressRepository;
-    private final UserAchievementRepository userAchievementRepository;
-    private final LessonRepository lessonRepository;
-    private final SkillRepository skillRepository;
-    private final UserRepository userRepository;
+    private final ProgressUpdateService progressUpdateService;
+    private final UserProgressExportService exportService;
+    private final ProgressBatchService progressBatchService;
+    private final LessonUnlockService lessonUnlockService;
+    private final CompletedLessonIndex completedLessonIndex;
+    private final int maxBatchSize;
 
     public UserProgressController(UserProgressRepository userProgressRepository,
-                                  UserAchievementRepository userAchievementRepository,
-                                  LessonRepository lessonRepository,
-                                  SkillRepository skillRepository,
-                                  UserRepository userRepository) {
+                                  ProgressUpdateService progressUpdateService,
+                                  UserProgressExportService exportService,
+                                  ProgressBatchService progressBatchService,
+                                  LessonUnlockService lessonUnlockService,
+                                  CompletedLessonIndex completedLessonIndex,
+                                  @Value("${chefscircle.progress.max-batch-size:1000}") int maxBatchSize) {
         this.userProgressRepository = userProgressRepository;
-        this.userAchievementRepository = userAchievementRepository;
-        this.lessonRepository = lessonRepository;
-        this.skillRepository = skillRepository;
-        this.userRepository = userRepository;
+        this.progressUpdateService = progressUpdateService;
+        this.exportService = exportService;
+        this.progressBatchService = progressBatchService;
+        this.lessonUnlockService = lessonUnlockService;
+        this.completedLessonIndex = completedLessonIndex;
+        this.maxBatchSize = maxBatchSize;
     }
 
     @GetMapping("/user/{userId}")
-    public ResponseEntity<List<UserProgress>> getUserProgress(@PathVariable Long userId) {
+    public ResponseEntity<PageDTO<UserProgress>> getUserProgress(@PathVariable Long userId,
+                                                                 @RequestParam(required = false) Long after,
+                                                                 @RequestParam(defaultValue = "50") int limit,
+                                                                 @RequestParam(defaultValue = "false") boolean includeTotal) {
         System.out.println("Fetching progress for user ID: " + userId);
         try {
-            // Trivial data fetch leaving as is for now
-            List<UserProgress> progress = userProgressRepository.findByUserId(userId);
-            System.out.println("Found " + progress.size() + " progress records for user " + userId);
-            return ResponseEntity.ok(progress);
+            int pageSize = KeysetPaging.clampLimit(limit);
+            List<UserProgress> fetched = userProgressRepository.findByUserIdAndIdGreaterThanOrderByIdAsc(
+                    userId, KeysetPaging.cursor(after), KeysetPaging.fetchLimit(pageSize));
+            // A single user's rows are few and indexed by user_id, so an exact count is already cheap
+            Long total = includeTotal ? userProgressRepository.countByUserId(userId) : null;
+            PageDTO<UserProgress> page = PageDTO.of(fetched, pageSize, UserProgress::getId, total);
+            System.out.println("Found " + page.getItems().size() + " progress records for user " + userId);
+            return ResponseEntity.ok(page);
         } catch (Exception e) {
             System.out.println("Error fetching progress for user " + userId + ": " + e.getMessage());
             e.printStackTrace();
@@ -73,71 +98,23 @@ public class UserProgressController {
      * This allows tracking partial progress, scores, or completion status.
      */
     @PostMapping("/update")
-    @Transactional
-    public ResponseEntity<User> updateProgress(@RequestBody UserProgress userProgress) {
+    public ResponseEntity<ProgressUpdateResultDTO> updateProgress(@RequestBody UserProgress userProgress) {
         try {
             System.out.println("Received progress update request: " + userProgress);
-            
-            // Validate that the user exists
-            Optional<User> userOpt = userRepository.findById(userProgress.getUserId());
-            if (!userOpt.isPresent()) {
-                System.out.println("User not found with ID: " + userProgress.getUserId());
-                return ResponseEntity.badRequest().build();
-            }
-            
-            // Validate that the lesson exists
-            Optional<Lesson> lessonOpt = lessonRepository.findById(userProgress.getLessonId());
-            if (!lessonOpt.isPresent()) {
-                System.out.println("Lesson not found with ID: " + userProgress.getLessonId());
+
+            if (userProgress.getUserId() == null || userProgress.getLessonId() == null
+                    || userProgress.getStatus() == null || !STATUSES.contains(userProgress.getStatus())) {
                 return ResponseEntity.badRequest().build();
             }
-            
-            // Check if progress for this user and lesson already exists.
-            Optional<UserProgress> existingProgressOpt = userProgressRepository.findByUserIdAndLessonId(
-                userProgress.getUserId(), userProgress.getLessonId());
-            
-            System.out.println("Existing progress found: " + existingProgressOpt.isPresent());
-            
-            boolean justCompleted = false;
-
-        if (existingProgressOpt.isPresent()) {
-            // If it exists, update the existing record.
-            UserProgress existing = existingProgressOpt.get();
-            String oldStatus = existing.getStatus();
-            existing.setStatus(userProgress.getStatus());
-            existing.setScore(userProgress.getScore());
-            if ("completed".equals(userProgress.getStatus())) {
-                existing.setCompletedAt(LocalDateTime.now());
-                if (!"completed".equals(oldStatus)) {
-                    justCompleted = true;
-                }
-            }
-            UserProgress savedProgress = userProgressRepository.save(existing);
-            System.out.println("Updated existing progress: " + savedProgress);
-            if (justCompleted) {
-                System.out.println("Lesson just completed, awarding XP and checking achievements");
-                awardXpForLessonCompletion(existing.getUserId(), existing.getLessonId());
-                checkAndAwardAchievements(existing.getUserId());
-            }
-        } else {
-            // Otherwise, create a new progress record.
-            userProgress.setCreatedAt(LocalDateTime.now());
-            if ("completed".equals(userProgress.getStatus())) {
-                userProgress.setCompletedAt(LocalDateTime.now());
-                justCompleted = true;
-            }
-            UserProgress savedProgress = userProgressRepository.save(userProgress);
-            System.out.println("Created new progress: " + savedProgress);
-            if (justCompleted) {
-                System.out.println("Lesson just completed, awarding XP and checking achievements");
-                awardXpForLessonCompletion(userProgress.getUserId(), userProgress.getLessonId());
-                checkAndAwardAchievements(userProgress.getUserId());
-            }
-        }
 
-        // Return the updated user object
-        User updatedUser = userRepository.findById(userProgress.getUserId()).orElseThrow(() -> new RuntimeException("User not found"));
-        return ResponseEntity.ok(updatedUser);
+            return progressUpdateService.update(userProgress.getUserId(), userProgress.getLessonId(),
+                            userProgress.getStatus(), userProgress.getScore())
+                    .map(ResponseEntity::ok)
+                    .orElse(ResponseEntity.badRequest().build());
+        } catch (DataIntegrityViolationException e) {
+            // The user was deleted after the cached check passed
+            System.out.println("Rejected progress update: " + e.getMessage());
+            return ResponseEntity.badRequest().build();
         } catch (Exception e) {
             System.out.println("Error updating progress: " + e.getMessage());
             e.printStackTrace();
@@ -145,67 +122,22 @@ public class UserProgressController {
         }
     }
 
-    private void awardXpForLessonCompletion(Long userId, Long lessonId) {
-        Optional<User> userOpt = userRepository.findById(userId);
-        Optional<Lesson> lessonOpt = lessonRepository.findById(lessonId);
-
-        if (userOpt.isPresent() && lessonOpt.isPresent()) {
-            User user = userOpt.get();
-            Lesson lesson = lessonOpt.get();
-            user.setXp(user.getXp() + lesson.getXpReward());
-            userRepository.save(user);
-        }
-    }
-
-    private void checkAndAwardAchievements(Long userId) {
-        long italianCuisineId = 1L; // HACK hardcoded seed IDs for demo
-        long italianBeginnerAchievementId = 1L; // HACK same as above
-        long italianNoviceAchievementId = 2L; // HACK same as above
-
-        // 1. Get user's existing achievements
-        Set<Long> existingAchievementIds = userAchievementRepository.findByIdUserId(userId)
-                .stream()
-                .map(ach -> ach.getId().getAchievementId())
-                .collect(Collectors.toSet());
-
-        // 2. Get user's completed lessons and map to cuisines
-        List<UserProgress> completedProgress = userProgressRepository.findByUserIdAndStatus(userId, "completed");
-        List<Long> lessonIds = completedProgress.stream().map(UserProgress::getLessonId).collect(Collectors.toList());
-        
-        if (lessonIds.isEmpty()) {
-            return;
-        }
-
-        List<Lesson> lessons = lessonRepository.findAllById(lessonIds);
-        List<Long> skillIds = lessons.stream().map(Lesson::getSkillId).distinct().collect(Collectors.toList());
-        Map<Long, Long> skillToCuisineMap = skillRepository.findAllById(skillIds)
-                .stream()
-                .collect(Collectors.toMap(Skill::getId, Skill::getCuisineId));
-
-        Map<Long, Long> lessonToCuisineMap = lessons.stream()
-                .filter(l -> skillToCuisineMap.containsKey(l.getSkillId()))
-                .collect(Collectors.toMap(Lesson::getId, l -> skillToCuisineMap.get(l.getSkillId())));
-        
-        // 3. Count completed lessons for Italian cuisine
-        long italianLessonsCompleted = completedProgress.stream()
-                .map(UserProgress::getLessonId)
-                .map(lessonToCuisineMap::get)
-                .filter(cId -> cId != null && cId.equals(italianCuisineId))
-                .count();
-
-        // 4. Check and award "Italian Beginner"
-        if (italianLessonsCompleted >= 1 && !existingAchievementIds.contains(italianBeginnerAchievementId)) {
-            UserAchievement newAchievement = new UserAchievement();
-            newAchievement.setId(new UserAchievementId(userId, italianBeginnerAchievementId));
-            userAchievementRepository.save(newAchievement);
+    /**
+     * Applies a list of progress updates (e.g. an offline client's queued changes) in one
+     * transaction. Invalid items are skipped and listed in the response.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<?> updateProgressBatch(@RequestBody List<UserProgress> updates) {
+        if (updates == null || updates.isEmpty()) {
+            return ResponseEntity.badRequest().body("At least one update is required");
         }
-
-        // 5. Check and award "Italian Novice"
-        if (italianLessonsCompleted >= 3 && !existingAchievementIds.contains(italianNoviceAchievementId)) {
-            UserAchievement newAchievement = new UserAchievement();
-            newAchievement.setId(new UserAchievementId(userId, italianNoviceAchievementId));
-            userAchievementRepository.save(newAchievement);
+        if (updates.size() > maxBatchSize) {
+            return ResponseEntity.badRequest().body("A batch can contain at most " + maxBatchSize + " updates");
         }
+        ProgressBatchResultDTO result = progressBatchService.applyBatch(updates);
+        System.out.println("Batch progress update: " + result.getInserted() + " inserted, "
+                + result.getUpdated() + " updated, " + result.getRejected().size() + " rejected");
+        return ResponseEntity.ok(result);
     }
 
     // Other methods remain the same...
@@ -223,12 +155,70 @@ public class UserProgressController {
         userProgress.setStatus("completed");
         
         UserProgress savedProgress = userProgressRepository.save(userProgress);
+        completedLessonIndex.recordCompleted(savedProgress.getUserId(), savedProgress.getLessonId());
         return ResponseEntity.ok(savedProgress);
     }
 
+    /**
+     * Streams the whole user_progress table (optionally filtered) for analytics.
+     * {@code from} and {@code to} are inclusive dates matched against completed_at.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<?> exportProgress(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String status,
+            HttpServletRequest request) {
+        UserProgressExportService.Format exportFormat;
+        try {
+            exportFormat = UserProgressExportService.Format.valueOf(format.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("Format must be ndjson or csv");
+        }
+        if (status != null && !STATUSES.contains(status)) {
+            return ResponseEntity.badRequest().body("Status must be one of " + STATUSES);
+        }
+
+        StreamingResponseBody body = exportService.export(request, exportFormat,
+                from == null ? null : from.atStartOfDay(),
+                to == null ? null : to.plusDays(1).atStartOfDay(),
+                status);
+        boolean csv = exportFormat == UserProgressExportService.Format.CSV;
+        return ResponseEntity.ok()
+                .contentType(csv ? new MediaType("text", "csv") : MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"user-progress." + (csv ? "csv" : "ndjson") + "\"")
+                .body(body);
+    }
+
+    /**
+     * Lessons the user can start next, as decided by the server-side unlock order.
+     */
+    @GetMapping("/user/{userId}/available")
+    public ResponseEntity<List<Lesson>> getAvailableLessons(@PathVariable Long userId) {
+        return ResponseEntity.ok(lessonUnlockService.findAvailableLessons(userId));
+    }
+
+    /**
+     * Completed lesson ids only, served from the in-memory bitmap rather than progress rows.
+     */
+    @GetMapping("/user/{userId}/completed-lessons")
+    public ResponseEntity<CompletedLessonsDTO> getCompletedLessonIds(@PathVariable Long userId) {
+        return ResponseEntity.ok(new CompletedLessonsDTO(userId, completedLessonIndex.getCompletedLessonIds(userId)));
+    }
+
+    /**
+     * Full rows for completed lessons. Which lessons comes from the in-memory bitmap; only
+     * those rows are loaded, by their unique key.
+     */
     @GetMapping("/user/{userId}/completed")
     public ResponseEntity<List<UserProgress>> getCompletedLessons(@PathVariable Long userId) {
-        List<UserProgress> completedProgress = userProgressRepository.findByUserIdAndStatus(userId, "completed");
-        return ResponseEntity.ok(completedProgress);
+        long[] lessonIds = completedLessonIndex.getCompletedLessonIds(userId);
+        if (lessonIds.length == 0) {
+            return ResponseEntity.ok(List.of());
+        }
+        return ResponseEntity.ok(userProgressRepository.findByUserIdAndLessonIdIn(userId,
+                Arrays.stream(lessonIds).boxed().toList()));
     }
 }
@@ -1,13 +1,22 @@
 package com.chefscircle.backend.model;
 
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 @Entity
 @Table(name = "achievements")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "achievements")
 public class Achievement {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -16,6 +25,18 @@ public class Achievement {
     private String description;
     private String icon;
 
+    // Unlock criteria, evaluated by AchievementRuleEngine. A null rule type means
+    // the achievement is never awarded automatically.
+    @Enumerated(EnumType.STRING)
+    @Column(name = "rule_type")
+    private AchievementRuleType ruleType;
+
+    @Column(name = "rule_target_id")
+    private Long ruleTargetId;
+
+    @Column(name = "rule_threshold")
+    private Integer ruleThreshold;
+
     // Getters and setters
     public Long getId() {
         return id;
@@ -48,4 +69,28 @@ public class Achievement {
     public void setIcon(String icon) {
         this.icon = icon;
     }
+
+    public AchievementRuleType getRuleType() {
+        return ruleType;
+    }
+
+    public void setRuleType(AchievementRuleType ruleType) {
+        this.ruleType = ruleType;
+    }
+
+    public Long getRuleTargetId() {
+        return ruleTargetId;
+    }
+
+    public void setRuleTargetId(Long ruleTargetId) {
+        this.ruleTargetId = ruleTargetId;
+    }
+
+    public Integer getRuleThreshold() {
+        return ruleThreshold;
+    }
+
+    public void setRuleThreshold(Integer ruleThreshold) {
+        this.ruleThreshold = ruleThreshold;
+    }
 }
@@ -0,0 +1,25 @@
+package com.chefscircle.backend.model;
+
+/**
+ * How an achievement is earned. Stored by name in achievements.rule_type.
+ */
+public enum AchievementRuleType {
+    /** Complete rule_threshold lessons in cuisine rule_target_id (null threshold = every lesson). */
+    LESSONS_IN_CUISINE(AchievementTrigger.LESSON_COMPLETED),
+    /** Complete rule_threshold lessons in any cuisine. */
+    LESSONS_TOTAL(AchievementTrigger.LESSON_COMPLETED),
+    /** Reach rule_threshold XP. */
+    XP(AchievementTrigger.XP_CHANGED),
+    /** Reach a current streak of rule_threshold days. */
+    STREAK(AchievementTrigger.STREAK_CHANGED);
+
+    private final AchievementTrigger trigger;
+
+    AchievementRuleType(AchievementTrigger trigger) {
+        this.trigger = trigger;
+    }
+
+    public AchievementTrigger getTrigger() {
+        return trigger;
+    }
+}
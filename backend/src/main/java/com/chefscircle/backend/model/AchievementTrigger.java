@@ -0,0 +1,10 @@
+package com.chefscircle.backend.model;
+
+/**
+ * Activity that can cause an achievement rule to be re-evaluated.
+ */
+public enum AchievementTrigger {
+    LESSON_COMPLETED,
+    XP_CHANGED,
+    STREAK_CHANGED
+}
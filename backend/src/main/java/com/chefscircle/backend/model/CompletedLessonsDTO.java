@@ -0,0 +1,39 @@
+package com.chefscircle.backend.model;
+
+public class CompletedLessonsDTO {
+
+    private Long userId;
+    private long[] lessonIds;
+    private int count;
+
+    public CompletedLessonsDTO(Long userId, long[] lessonIds) {
+        this.userId = userId;
+        this.lessonIds = lessonIds;
+        this.count = lessonIds.length;
+    }
+
+    // Getters and setters
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public long[] getLessonIds() {
+        return lessonIds;
+    }
+
+    public void setLessonIds(long[] lessonIds) {
+        this.lessonIds = lessonIds;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public void setCount(int count) {
+        this.count = count;
+    }
+}
@@ -1,10 +1,14 @@
 package com.chefscircle.backend.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "cuisines")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "cuisines")
 public class Cuisine {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -0,0 +1,179 @@
+package com.chefscircle.backend.model;
+
+import java.util.List;
+
+/**
+ * A cuisine with its ordered skills and lessons in one payload.
+ * Lesson status is only filled in when the tree is requested for a user.
+ */
+public class CuisineTreeDTO {
+
+    private Long id;
+    private String name;
+    private String icon;
+    private String description;
+    private int totalLessons;
+    private int completedLessons;
+    private List<SkillNode> skills;
+
+    public CuisineTreeDTO(Cuisine cuisine, List<SkillNode> skills, int totalLessons, int completedLessons) {
+        this.id = cuisine.getId();
+        this.name = cuisine.getName();
+        this.icon = cuisine.getIcon();
+        this.description = cuisine.getDescription();
+        this.skills = skills;
+        this.totalLessons = totalLessons;
+        this.completedLessons = completedLessons;
+    }
+
+    // Getters and setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getIcon() {
+        return icon;
+    }
+
+    public void setIcon(String icon) {
+        this.icon = icon;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public int getTotalLessons() {
+        return totalLessons;
+    }
+
+    public void setTotalLessons(int totalLessons) {
+        this.totalLessons = totalLessons;
+    }
+
+    public int getCompletedLessons() {
+        return completedLessons;
+    }
+
+    public void setCompletedLessons(int completedLessons) {
+        this.completedLessons = completedLessons;
+    }
+
+    public List<SkillNode> getSkills() {
+        return skills;
+    }
+
+    public void setSkills(List<SkillNode> skills) {
+        this.skills = skills;
+    }
+
+    public static class SkillNode {
+
+        private Long id;
+        private String name;
+        private String description;
+        private Integer orderIndex;
+        private List<LessonNode> lessons;
+
+        public SkillNode(Skill skill, List<LessonNode> lessons) {
+            this.id = skill.getId();
+            this.name = skill.getName();
+            this.description = skill.getDescription();
+            this.orderIndex = skill.getOrderIndex();
+            this.lessons = lessons;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        public Integer getOrderIndex() {
+            return orderIndex;
+        }
+
+        public List<LessonNode> getLessons() {
+            return lessons;
+        }
+    }
+
+    public static class LessonNode {
+
+        private Long id;
+        private String name;
+        private String description;
+        private Integer orderIndex;
+        private Integer xpReward;
+        private String icon;
+        private String status; // null unless a userId was supplied
+        private Integer score;
+
+        public LessonNode(Lesson lesson, UserProgress progress) {
+            this.id = lesson.getId();
+            this.name = lesson.getName();
+            this.description = lesson.getDescription();
+            this.orderIndex = lesson.getOrderIndex();
+            this.xpReward = lesson.getXpReward();
+            this.icon = lesson.getIcon();
+            if (progress != null) {
+                this.status = progress.getStatus();
+                this.score = progress.getScore();
+            }
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        public Integer getOrderIndex() {
+            return orderIndex;
+        }
+
+        public Integer getXpReward() {
+            return xpReward;
+        }
+
+        public String getIcon() {
+            return icon;
+        }
+
+        public String getStatus() {
+            return status;
+        }
+
+        public Integer getScore() {
+            return score;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.chefscircle.backend.model;
+
+import java.util.List;
+
+/**
+ * Everything the app needs on open, in one response. A section that failed or
+ * timed out is null and its name is listed in {@code unavailableSections}, so the
+ * client can fall back to that section's own endpoint. {@code progress} is the first
+ * page of the paged progress endpoint.
+ */
+public class DashboardDTO {
+
+    private User user;
+    private PageDTO<UserProgress> progress;
+    private List<AchievementDTO> achievements;
+    private List<Cuisine> favoriteCuisines;
+    private StreakDTO streak;
+    private List<String> unavailableSections;
+
+    public DashboardDTO(User user, PageDTO<UserProgress> progress, List<AchievementDTO> achievements,
+                        List<Cuisine> favoriteCuisines, StreakDTO streak, List<String> unavailableSections) {
+        this.user = user;
+        this.progress = progress;
+        this.achievements = achievements;
+        this.favoriteCuisines = favoriteCuisines;
+        this.streak = streak;
+        this.unavailableSections = unavailableSections;
+    }
+
+    // Getters and setters
+    public User getUser() {
+        return user;
+    }
+
+    public void setUser(User user) {
+        this.user = user;
+    }
+
+    public PageDTO<UserProgress> getProgress() {
+        return progress;
+    }
+
+    public void setProgress(PageDTO<UserProgress> progress) {
+        this.progress = progress;
+    }
+
+    public List<AchievementDTO> getAchievements() {
+        return achievements;
+    }
+
+    public void setAchievements(List<AchievementDTO> achievements) {
+        this.achievements = achievements;
+    }
+
+    public List<Cuisine> getFavoriteCuisines() {
+        return favoriteCuisines;
+    }
+
+    public void setFavoriteCuisines(List<Cuisine> favoriteCuisines) {
+        this.favoriteCuisines = favoriteCuisines;
+    }
+
+    public StreakDTO getStreak() {
+        return streak;
+    }
+
+    public void setStreak(StreakDTO streak) {
+        this.streak = streak;
+    }
+
+    public List<String> getUnavailableSections() {
+        return unavailableSections;
+    }
+
+    public void setUnavailableSections(List<String> unavailableSections) {
+        this.unavailableSections = unavailableSections;
+    }
+}
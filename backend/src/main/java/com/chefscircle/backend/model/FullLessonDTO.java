@@ -0,0 +1,49 @@
+package com.chefscircle.backend.model;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+/**
+ * A lesson with its ordered content sections and quiz questions.
+ * The entities inside are plain unmanaged objects mapped from one query;
+ * quizzes are sent without their answers, which are graded on the server.
+ */
+@JsonPropertyOrder({"lesson", "content", "quizzes"})
+public class FullLessonDTO {
+
+    private Lesson lesson;
+    private List<LessonContent> content;
+    private List<QuizQuestionDTO> quizzes;
+
+    public FullLessonDTO(Lesson lesson, List<LessonContent> content, List<QuizQuestionDTO> quizzes) {
+        this.lesson = lesson;
+        this.content = content;
+        this.quizzes = quizzes;
+    }
+
+    // Getters and setters
+    public Lesson getLesson() {
+        return lesson;
+    }
+
+    public void setLesson(Lesson lesson) {
+        this.lesson = lesson;
+    }
+
+    public List<LessonContent> getContent() {
+        return content;
+    }
+
+    public void setContent(List<LessonContent> content) {
+        this.content = content;
+    }
+
+    public List<QuizQuestionDTO> getQuizzes() {
+        return quizzes;
+    }
+
+    public void setQuizzes(List<QuizQuestionDTO> quizzes) {
+        this.quizzes = quizzes;
+    }
+}
@@ -0,0 +1,59 @@
+package com.chefscircle.backend.model;
+
+public class LeaderboardEntryDTO {
+
+    private int rank;
+    private Long userId;
+    private String username;
+    private String name;
+    private int xp;
+
+    public LeaderboardEntryDTO(int rank, Long userId, String username, String name, int xp) {
+        this.rank = rank;
+        this.userId = userId;
+        this.username = username;
+        this.name = name;
+        this.xp = xp;
+    }
+
+    // Getters and setters
+    public int getRank() {
+        return rank;
+    }
+
+    public void setRank(int rank) {
+        this.rank = rank;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public int getXp() {
+        return xp;
+    }
+
+    public void setXp(int xp) {
+        this.xp = xp;
+    }
+}
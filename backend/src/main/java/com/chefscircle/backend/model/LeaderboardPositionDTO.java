@@ -0,0 +1,51 @@
+package com.chefscircle.backend.model;
+
+import java.util.List;
+
+public class LeaderboardPositionDTO {
+
+    private int rank;
+    private int xp;
+    private int totalUsers;
+    private List<LeaderboardEntryDTO> window;
+
+    public LeaderboardPositionDTO(int rank, int xp, int totalUsers, List<LeaderboardEntryDTO> window) {
+        this.rank = rank;
+        this.xp = xp;
+        this.totalUsers = totalUsers;
+        this.window = window;
+    }
+
+    // Getters and setters
+    public int getRank() {
+        return rank;
+    }
+
+    public void setRank(int rank) {
+        this.rank = rank;
+    }
+
+    public int getXp() {
+        return xp;
+    }
+
+    public void setXp(int xp) {
+        this.xp = xp;
+    }
+
+    public int getTotalUsers() {
+        return totalUsers;
+    }
+
+    public void setTotalUsers(int totalUsers) {
+        this.totalUsers = totalUsers;
+    }
+
+    public List<LeaderboardEntryDTO> getWindow() {
+        return window;
+    }
+
+    public void setWindow(List<LeaderboardEntryDTO> window) {
+        this.window = window;
+    }
+}
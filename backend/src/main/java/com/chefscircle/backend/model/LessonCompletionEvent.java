@@ -0,0 +1,76 @@
+package com.chefscircle.backend.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Outbox row recording that a user just completed a lesson.
+ * Written in the same transaction as the progress row and marked processed
+ * once XP and achievements have been applied, so restarts never lose a completion.
+ */
+@Entity
+@Table(name = "lesson_completion_events",
+       indexes = @Index(name = "idx_completion_events_pending", columnList = "processed_at, id"))
+public class LessonCompletionEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+    
+    @Column(name = "lesson_id", nullable = false)
+    private Long lessonId;
+    
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+    
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+    
+    // Constructors
+    public LessonCompletionEvent() {}
+    
+    public LessonCompletionEvent(Long userId, Long lessonId) {
+        this.userId = userId;
+        this.lessonId = lessonId;
+    }
+    
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+    
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+    
+    public Long getUserId() {
+        return userId;
+    }
+    
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+    
+    public Long getLessonId() {
+        return lessonId;
+    }
+    
+    public void setLessonId(Long lessonId) {
+        this.lessonId = lessonId;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public LocalDateTime getProcessedAt() {
+        return processedAt;
+    }
+    
+    public void setProcessedAt(LocalDateTime processedAt) {
+        this.processedAt = processedAt;
+    }
+}
@@ -0,0 +1,67 @@
+package com.chefscircle.backend.model;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Envelope for keyset-paginated lists. Items are ordered by id ascending;
+ * pass {@code nextCursor} back as {@code after} to fetch the following page.
+ * {@code totalEstimate} is only filled when the caller asks for it and may be approximate.
+ */
+public class PageDTO<T> {
+
+    private List<T> items;
+    private Long nextCursor;
+    private boolean hasMore;
+    private Long totalEstimate;
+
+    public PageDTO(List<T> items, Long nextCursor, boolean hasMore, Long totalEstimate) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.hasMore = hasMore;
+        this.totalEstimate = totalEstimate;
+    }
+
+    /**
+     * Builds a page from rows fetched with {@code limit + 1}; the extra row only signals that more exist.
+     */
+    public static <T> PageDTO<T> of(List<T> fetched, int limit, Function<T, Long> idOf, Long totalEstimate) {
+        boolean hasMore = fetched.size() > limit;
+        List<T> items = hasMore ? fetched.subList(0, limit) : fetched;
+        Long nextCursor = hasMore ? idOf.apply(items.get(items.size() - 1)) : null;
+        return new PageDTO<>(items, nextCursor, hasMore, totalEstimate);
+    }
+
+    // Getters and setters
+    public List<T> getItems() {
+        return items;
+    }
+
+    public void setItems(List<T> items) {
+        this.items = items;
+    }
+
+    public Long getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(Long nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+
+    public Long getTotalEstimate() {
+        return totalEstimate;
+    }
+
+    public void setTotalEstimate(Long totalEstimate) {
+        this.totalEstimate = totalEstimate;
+    }
+}
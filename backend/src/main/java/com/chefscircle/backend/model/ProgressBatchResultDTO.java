@@ -0,0 +1,112 @@
+package com.chefscircle.backend.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ProgressBatchResultDTO {
+
+    private int received;
+    private int inserted;
+    private int updated;
+    private int completed;
+    private List<RejectedUpdate> rejected = new ArrayList<>();
+
+    public ProgressBatchResultDTO(int received) {
+        this.received = received;
+    }
+
+    public void reject(int index, Long userId, Long lessonId, String reason) {
+        rejected.add(new RejectedUpdate(index, userId, lessonId, reason));
+    }
+
+    // Getters and setters
+    public int getReceived() {
+        return received;
+    }
+
+    public void setReceived(int received) {
+        this.received = received;
+    }
+
+    public int getInserted() {
+        return inserted;
+    }
+
+    public void setInserted(int inserted) {
+        this.inserted = inserted;
+    }
+
+    public int getUpdated() {
+        return updated;
+    }
+
+    public void setUpdated(int updated) {
+        this.updated = updated;
+    }
+
+    public int getCompleted() {
+        return completed;
+    }
+
+    public void setCompleted(int completed) {
+        this.completed = completed;
+    }
+
+    public List<RejectedUpdate> getRejected() {
+        return rejected;
+    }
+
+    public void setRejected(List<RejectedUpdate> rejected) {
+        this.rejected = rejected;
+    }
+
+    /**
+     * An item that was skipped, identified by its position in the request.
+     */
+    public static class RejectedUpdate {
+
+        private int index;
+        private Long userId;
+        private Long lessonId;
+        private String reason;
+
+        public RejectedUpdate(int index, Long userId, Long lessonId, String reason) {
+            this.index = index;
+            this.userId = userId;
+            this.lessonId = lessonId;
+            this.reason = reason;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public void setIndex(int index) {
+            this.index = index;
+        }
+
+        public Long getUserId() {
+            return userId;
+        }
+
+        public void setUserId(Long userId) {
+            this.userId = userId;
+        }
+
+        public Long getLessonId() {
+            return lessonId;
+        }
+
+        public void setLessonId(Long lessonId) {
+            this.lessonId = lessonId;
+        }
+
+        public String getReason() {
+            return reason;
+        }
+
+        public void setReason(String reason) {
+            this.reason = reason;
+        }
+    }
+}
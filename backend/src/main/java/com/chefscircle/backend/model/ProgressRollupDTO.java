@@ -0,0 +1,59 @@
+package com.chefscircle.backend.model;
+
+public class ProgressRollupDTO {
+
+    private String scopeType;
+    private Long scopeId;
+    private int completed;
+    private int total;
+    private double percentage;
+
+    public ProgressRollupDTO(String scopeType, Long scopeId, int completed, int total) {
+        this.scopeType = scopeType;
+        this.scopeId = scopeId;
+        this.completed = completed;
+        this.total = total;
+        this.percentage = total > 0 ? Math.min(100.0, completed * 100.0 / total) : 0.0;
+    }
+
+    // Getters and setters
+    public String getScopeType() {
+        return scopeType;
+    }
+
+    public void setScopeType(String scopeType) {
+        this.scopeType = scopeType;
+    }
+
+    public Long getScopeId() {
+        return scopeId;
+    }
+
+    public void setScopeId(Long scopeId) {
+        this.scopeId = scopeId;
+    }
+
+    public int getCompleted() {
+        return completed;
+    }
+
+    public void setCompleted(int completed) {
+        this.completed = completed;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public void setTotal(int total) {
+        this.total = total;
+    }
+
+    public double getPercentage() {
+        return percentage;
+    }
+
+    public void setPercentage(double percentage) {
+        this.percentage = percentage;
+    }
+}
@@ -0,0 +1,82 @@
+package com.chefscircle.backend.model;
+
+import java.util.List;
+
+public class ProgressUpdateResultDTO {
+
+    private Long userId;
+    private Long lessonId;
+    private String status;
+    private boolean justCompleted;
+    private int xpAwarded;
+    private int xp;
+    private List<Long> unlockedLessonIds;
+
+    public ProgressUpdateResultDTO(Long userId, Long lessonId, String status,
+                                   boolean justCompleted, int xpAwarded, int xp, List<Long> unlockedLessonIds) {
+        this.userId = userId;
+        this.lessonId = lessonId;
+        this.status = status;
+        this.justCompleted = justCompleted;
+        this.xpAwarded = xpAwarded;
+        this.xp = xp;
+        this.unlockedLessonIds = unlockedLessonIds;
+    }
+
+    // Getters and setters
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public Long getLessonId() {
+        return lessonId;
+    }
+
+    public void setLessonId(Long lessonId) {
+        this.lessonId = lessonId;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public boolean isJustCompleted() {
+        return justCompleted;
+    }
+
+    public void setJustCompleted(boolean justCompleted) {
+        this.justCompleted = justCompleted;
+    }
+
+    public int getXpAwarded() {
+        return xpAwarded;
+    }
+
+    public void setXpAwarded(int xpAwarded) {
+        this.xpAwarded = xpAwarded;
+    }
+
+    public int getXp() {
+        return xp;
+    }
+
+    public void setXp(int xp) {
+        this.xp = xp;
+    }
+
+    public List<Long> getUnlockedLessonIds() {
+        return unlockedLessonIds;
+    }
+
+    public void setUnlockedLessonIds(List<Long> unlockedLessonIds) {
+        this.unlockedLessonIds = unlockedLessonIds;
+    }
+}
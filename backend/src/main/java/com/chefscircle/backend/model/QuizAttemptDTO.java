@@ -0,0 +1,55 @@
+package com.chefscircle.backend.model;
+
+import java.util.List;
+
+/**
+ * A whole quiz attempt: one answer per question, submitted together.
+ */
+public class QuizAttemptDTO {
+
+    private Long userId;
+    private List<Answer> answers;
+
+    public QuizAttemptDTO() {}
+
+    // Getters and setters
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public List<Answer> getAnswers() {
+        return answers;
+    }
+
+    public void setAnswers(List<Answer> answers) {
+        this.answers = answers;
+    }
+
+    public static class Answer {
+
+        private Long quizId;
+        private String answer;
+
+        public Answer() {}
+
+        public Long getQuizId() {
+            return quizId;
+        }
+
+        public void setQuizId(Long quizId) {
+            this.quizId = quizId;
+        }
+
+        public String getAnswer() {
+            return answer;
+        }
+
+        public void setAnswer(String answer) {
+            this.answer = answer;
+        }
+    }
+}
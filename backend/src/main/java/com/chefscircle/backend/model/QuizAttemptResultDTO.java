@@ -0,0 +1,133 @@
+package com.chefscircle.backend.model;
+
+import java.util.List;
+
+/**
+ * Outcome of a graded quiz attempt. {@code progress} is only set when the attempt
+ * passed and the lesson completion was written.
+ */
+public class QuizAttemptResultDTO {
+
+    private Long lessonId;
+    private int correctCount;
+    private int totalQuestions;
+    private int score;
+    private boolean passed;
+    private ProgressUpdateResultDTO progress;
+    private List<QuestionResult> results;
+
+    public QuizAttemptResultDTO(Long lessonId, int correctCount, int totalQuestions, int score,
+                                boolean passed, ProgressUpdateResultDTO progress, List<QuestionResult> results) {
+        this.lessonId = lessonId;
+        this.correctCount = correctCount;
+        this.totalQuestions = totalQuestions;
+        this.score = score;
+        this.passed = passed;
+        this.progress = progress;
+        this.results = results;
+    }
+
+    // Getters and setters
+    public Long getLessonId() {
+        return lessonId;
+    }
+
+    public void setLessonId(Long lessonId) {
+        this.lessonId = lessonId;
+    }
+
+    public int getCorrectCount() {
+        return correctCount;
+    }
+
+    public void setCorrectCount(int correctCount) {
+        this.correctCount = correctCount;
+    }
+
+    public int getTotalQuestions() {
+        return totalQuestions;
+    }
+
+    public void setTotalQuestions(int totalQuestions) {
+        this.totalQuestions = totalQuestions;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public void setScore(int score) {
+        this.score = score;
+    }
+
+    public boolean isPassed() {
+        return passed;
+    }
+
+    public void setPassed(boolean passed) {
+        this.passed = passed;
+    }
+
+    public ProgressUpdateResultDTO getProgress() {
+        return progress;
+    }
+
+    public void setProgress(ProgressUpdateResultDTO progress) {
+        this.progress = progress;
+    }
+
+    public List<QuestionResult> getResults() {
+        return results;
+    }
+
+    public void setResults(List<QuestionResult> results) {
+        this.results = results;
+    }
+
+    public static class QuestionResult {
+
+        private Long quizId;
+        private boolean correct;
+        private String correctAnswer;
+        private String explanation;
+
+        public QuestionResult(Long quizId, boolean correct, String correctAnswer, String explanation) {
+            this.quizId = quizId;
+            this.correct = correct;
+            this.correctAnswer = correctAnswer;
+            this.explanation = explanation;
+        }
+
+        public Long getQuizId() {
+            return quizId;
+        }
+
+        public void setQuizId(Long quizId) {
+            this.quizId = quizId;
+        }
+
+        public boolean isCorrect() {
+            return correct;
+        }
+
+        public void setCorrect(boolean correct) {
+            this.correct = correct;
+        }
+
+        public String getCorrectAnswer() {
+            return correctAnswer;
+        }
+
+        public void setCorrectAnswer(String correctAnswer) {
+            this.correctAnswer = correctAnswer;
+        }
+
+        public String getExplanation() {
+            return explanation;
+        }
+
+        public void setExplanation(String explanation) {
+            this.explanation = explanation;
+        }
+    }
+}
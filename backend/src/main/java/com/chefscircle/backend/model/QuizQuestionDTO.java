@@ -0,0 +1,85 @@
+package com.chefscircle.backend.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * A quiz question as the client sees it: the answer options are shuffled and the
+ * correct answer and explanation stay on the server until the attempt is graded.
+ */
+public class QuizQuestionDTO {
+
+    private Long id;
+    private Long lessonId;
+    private String questionText;
+    private List<String> options;
+    private Integer orderIndex;
+
+    public QuizQuestionDTO(Long id, Long lessonId, String questionText, List<String> options, Integer orderIndex) {
+        this.id = id;
+        this.lessonId = lessonId;
+        this.questionText = questionText;
+        this.options = options;
+        this.orderIndex = orderIndex;
+    }
+
+    /**
+     * Shuffle is seeded with the quiz id so the order is stable across requests
+     * and cached payloads keep the same ETag.
+     */
+    public static QuizQuestionDTO of(Quiz quiz) {
+        List<String> options = new ArrayList<>(4);
+        for (String option : new String[] {quiz.getCorrectAnswer(), quiz.getWrongAnswer1(),
+                quiz.getWrongAnswer2(), quiz.getWrongAnswer3()}) {
+            if (option != null) {
+                options.add(option);
+            }
+        }
+        Collections.shuffle(options, new Random(quiz.getId() == null ? 0L : quiz.getId()));
+        return new QuizQuestionDTO(quiz.getId(), quiz.getLessonId(), quiz.getQuestionText(),
+                List.copyOf(options), quiz.getOrderIndex());
+    }
+
+    // Getters and setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getLessonId() {
+        return lessonId;
+    }
+
+    public void setLessonId(Long lessonId) {
+        this.lessonId = lessonId;
+    }
+
+    public String getQuestionText() {
+        return questionText;
+    }
+
+    public void setQuestionText(String questionText) {
+        this.questionText = questionText;
+    }
+
+    public List<String> getOptions() {
+        return options;
+    }
+
+    public void setOptions(List<String> options) {
+        this.options = options;
+    }
+
+    public Integer getOrderIndex() {
+        return orderIndex;
+    }
+
+    public void setOrderIndex(Integer orderIndex) {
+        this.orderIndex = orderIndex;
+    }
+}
@@ -0,0 +1,80 @@
+package com.chefscircle.backend.model;
+
+public class SearchResultDTO {
+
+    private Long lessonId;
+    private Long skillId;
+    private Long cuisineId;
+    private String name;
+    private String description;
+    private String icon;
+    private float score;
+
+    public SearchResultDTO(Long lessonId, Long skillId, Long cuisineId, String name,
+                           String description, String icon, float score) {
+        this.lessonId = lessonId;
+        this.skillId = skillId;
+        this.cuisineId = cuisineId;
+        this.name = name;
+        this.description = description;
+        this.icon = icon;
+        this.score = score;
+    }
+
+    // Getters and setters
+    public Long getLessonId() {
+        return lessonId;
+    }
+
+    public void setLessonId(Long lessonId) {
+        this.lessonId = lessonId;
+    }
+
+    public Long getSkillId() {
+        return skillId;
+    }
+
+    public void setSkillId(Long skillId) {
+        this.skillId = skillId;
+    }
+
+    public Long getCuisineId() {
+        return cuisineId;
+    }
+
+    public void setCuisineId(Long cuisineId) {
+        this.cuisineId = cuisineId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public String getIcon() {
+        return icon;
+    }
+
+    public void setIcon(String icon) {
+        this.icon = icon;
+    }
+
+    public float getScore() {
+        return score;
+    }
+
+    public void setScore(float score) {
+        this.score = score;
+    }
+}
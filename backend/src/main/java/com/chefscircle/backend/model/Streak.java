@@ -1,10 +1,12 @@
 package com.chefscircle.backend.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "streak")
+@Table(name = "streak",
+       uniqueConstraints = @UniqueConstraint(name = "unique_streak_user", columnNames = "usr_id"))
 public class Streak {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -18,6 +20,15 @@ public class Streak {
     private int longestStreak;
     private LocalDate lastActiveDt;
 
+    // One bit per day starting at activityOrigin; maintained by StreakService only
+    @JsonIgnore
+    @Column(name = "activity_origin")
+    private LocalDate activityOrigin;
+
+    @JsonIgnore
+    @Column(name = "activity_bits", columnDefinition = "VARBINARY(512)")
+    private byte[] activityBits;
+
     public Long getId() { return id; }
     public User getUser() { return user; }
     public void setUser(User user) { this.user = user; }
@@ -27,4 +38,8 @@ public class Streak {
     public void setLongestStreak(int longestStreak) { this.longestStreak = longestStreak; }
     public LocalDate getLastActiveDt() { return lastActiveDt; }
     public void setLastActiveDt(LocalDate lastActiveDt) { this.lastActiveDt = lastActiveDt; }
+    public LocalDate getActivityOrigin() { return activityOrigin; }
+    public void setActivityOrigin(LocalDate activityOrigin) { this.activityOrigin = activityOrigin; }
+    public byte[] getActivityBits() { return activityBits; }
+    public void setActivityBits(byte[] activityBits) { this.activityBits = activityBits; }
 }
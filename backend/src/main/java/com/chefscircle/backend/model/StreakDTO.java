@@ -0,0 +1,61 @@
+package com.chefscircle.backend.model;
+
+import java.time.LocalDate;
+
+public class StreakDTO {
+
+    private Long userId;
+    private int currentStreak;
+    private int longestStreak;
+    private LocalDate lastActiveDate;
+    private boolean activeToday;
+
+    public StreakDTO(Long userId, int currentStreak, int longestStreak, LocalDate lastActiveDate, boolean activeToday) {
+        this.userId = userId;
+        this.currentStreak = currentStreak;
+        this.longestStreak = longestStreak;
+        this.lastActiveDate = lastActiveDate;
+        this.activeToday = activeToday;
+    }
+
+    // Getters and setters
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public int getCurrentStreak() {
+        return currentStreak;
+    }
+
+    public void setCurrentStreak(int currentStreak) {
+        this.currentStreak = currentStreak;
+    }
+
+    public int getLongestStreak() {
+        return longestStreak;
+    }
+
+    public void setLongestStreak(int longestStreak) {
+        this.longestStreak = longestStreak;
+    }
+
+    public LocalDate getLastActiveDate() {
+        return lastActiveDate;
+    }
+
+    public void setLastActiveDate(LocalDate lastActiveDate) {
+        this.lastActiveDate = lastActiveDate;
+    }
+
+    public boolean isActiveToday() {
+        return activeToday;
+    }
+
+    public void setActiveToday(boolean activeToday) {
+        this.activeToday = activeToday;
+    }
+}
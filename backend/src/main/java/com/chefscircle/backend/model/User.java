@@ -24,10 +24,14 @@ public class User {
     private String name;
     private String username;
     private String email;
+    // Stored as a PBKDF2 hash; accepted on input but never sent back to clients
+    @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
     private String pwd;
     private String profileImage;
 
-    @Column(name = "xp", nullable = false)
+    // Only ever changed through UserRepository.incrementXp, so entity saves
+    // (profile edits etc.) can't overwrite a concurrent award
+    @Column(name = "xp", nullable = false, updatable = false)
     private Integer xp = 0;
 
     @Column(name = "is_admin", nullable = false)
@@ -0,0 +1,43 @@
+package com.chefscircle.backend.model;
+
+/**
+ * Just the unique handles of a user, for rebuilding the availability filter
+ * without loading full entities.
+ */
+public class UserHandleDTO {
+
+    private Long id;
+    private String username;
+    private String email;
+
+    public UserHandleDTO(Long id, String username, String email) {
+        this.id = id;
+        this.username = username;
+        this.email = email;
+    }
+
+    // Getters and setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+}
@@ -4,7 +4,13 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "user_progress")
+@Table(name = "user_progress",
+       uniqueConstraints = @UniqueConstraint(name = "unique_user_lesson", columnNames = {"user_id", "lesson_id"}),
+       indexes = {
+           @Index(name = "idx_user_progress_user_page", columnList = "user_id, id"),
+           @Index(name = "idx_user_progress_completed_at", columnList = "completed_at"),
+           @Index(name = "idx_user_progress_user_status", columnList = "user_id, status")
+       })
 public class UserProgress {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
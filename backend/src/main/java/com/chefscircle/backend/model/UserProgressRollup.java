@@ -0,0 +1,40 @@
+package com.chefscircle.backend.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+
+/**
+ * Completed-lesson count for one user in one skill or cuisine. Maintained
+ * incrementally as progress rows move in and out of "completed".
+ */
+@Entity
+@Table(name = "user_progress_rollups")
+public class UserProgressRollup {
+
+    public static final String SCOPE_SKILL = "skill";
+    public static final String SCOPE_CUISINE = "cuisine";
+
+    @EmbeddedId
+    private UserProgressRollupId id;
+
+    @Column(nullable = false)
+    private int completed;
+
+    public UserProgressRollupId getId() {
+        return id;
+    }
+
+    public void setId(UserProgressRollupId id) {
+        this.id = id;
+    }
+
+    public int getCompleted() {
+        return completed;
+    }
+
+    public void setCompleted(int completed) {
+        this.completed = completed;
+    }
+}
@@ -0,0 +1,66 @@
+package com.chefscircle.backend.model;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+@Embeddable
+public class UserProgressRollupId implements Serializable {
+
+    private Long userId;
+
+    @Column(length = 8)
+    private String scopeType;
+
+    private Long scopeId;
+
+    public UserProgressRollupId() {
+    }
+
+    public UserProgressRollupId(Long userId, String scopeType, Long scopeId) {
+        this.userId = userId;
+        this.scopeType = scopeType;
+        this.scopeId = scopeId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public String getScopeType() {
+        return scopeType;
+    }
+
+    public void setScopeType(String scopeType) {
+        this.scopeType = scopeType;
+    }
+
+    public Long getScopeId() {
+        return scopeId;
+    }
+
+    public void setScopeId(Long scopeId) {
+        this.scopeId = scopeId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        UserProgressRollupId that = (UserProgressRollupId) o;
+        return Objects.equals(userId, that.userId) &&
+               Objects.equals(scopeType, that.scopeType) &&
+               Objects.equals(scopeId, that.scopeId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(userId, scopeType, scopeId);
+    }
+}
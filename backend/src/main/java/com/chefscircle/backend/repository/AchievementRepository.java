@@ -1,8 +1,16 @@
 package com.chefscircle.backend.repository;
 
+import java.util.List;
+
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import com.chefscircle.backend.model.Achievement;
 
+import jakarta.persistence.QueryHint;
+
 public interface AchievementRepository extends JpaRepository<Achievement, Long> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Achievement> findAll();
 }
@@ -1,9 +1,16 @@
 package com.chefscircle.backend.repository;
 
 import com.chefscircle.backend.model.Cuisine;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface CuisineRepository extends JpaRepository<Cuisine, Long> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Cuisine> findAll();
 } 
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.chefscircle.backend.repository;
+
+import com.chefscircle.backend.model.JobCheckpoint;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface JobCheckpointRepository extends JpaRepository<JobCheckpoint, String> {
+
+    // Held for one chunk at a time, so concurrent instances take turns instead of double-processing
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from JobCheckpoint c where c.jobName = :jobName")
+    Optional<JobCheckpoint> lockByJobName(@Param("jobName") String jobName);
+}
@@ -0,0 +1,116 @@
+package com.chefscircle.backend.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.chefscircle.backend.model.FullLessonDTO;
+import com.chefscircle.backend.model.Lesson;
+import com.chefscircle.backend.model.LessonContent;
+import com.chefscircle.backend.model.Quiz;
+import com.chefscircle.backend.model.QuizQuestionDTO;
+
+/**
+ * Read-only aggregate access for a lesson with its content sections and quizzes.
+ * Everything comes back in one UNION ALL round trip and is mapped straight into
+ * a DTO, so no persistence context or transaction is held while it runs.
+ */
+@Repository
+public class LessonAggregateRepository {
+
+    private static final String FULL_LESSON_SQL = """
+            SELECT 'L' AS kind, l.id, l.order_index, l.skill_id AS parent_id, l.xp_reward,
+                   l.name AS text1, l.description AS text2, l.icon AS text3,
+                   NULL AS text4, NULL AS text5, NULL AS text6, l.created_at
+              FROM lessons l
+             WHERE l.id = ?
+            UNION ALL
+            SELECT 'C', c.id, c.order_index, c.lesson_id, NULL,
+                   c.section_title, c.content_text, NULL,
+                   NULL, NULL, NULL, c.created_at
+              FROM lesson_content c
+             WHERE c.lesson_id = ?
+            UNION ALL
+            SELECT 'Q', q.id, q.order_index, q.lesson_id, NULL,
+                   q.question_text, q.correct_answer, q.wrong_answer_1,
+                   q.wrong_answer_2, q.wrong_answer_3, q.explanation, q.created_at
+              FROM quizzes q
+             WHERE q.lesson_id = ?
+            ORDER BY kind, order_index, id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public LessonAggregateRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public Optional<FullLessonDTO> findFullLesson(Long lessonId) {
+        return jdbcTemplate.query(FULL_LESSON_SQL, rs -> {
+            Lesson lesson = null;
+            List<LessonContent> content = new ArrayList<>();
+            List<QuizQuestionDTO> quizzes = new ArrayList<>();
+            while (rs.next()) {
+                switch (rs.getString("kind")) {
+                    case "L" -> lesson = mapLesson(rs);
+                    case "C" -> content.add(mapContent(rs));
+                    case "Q" -> quizzes.add(QuizQuestionDTO.of(mapQuiz(rs)));
+                    default -> { }
+                }
+            }
+            return lesson == null
+                    ? Optional.<FullLessonDTO>empty()
+                    : Optional.of(new FullLessonDTO(lesson, content, quizzes));
+        }, lessonId, lessonId, lessonId);
+    }
+
+    private static Lesson mapLesson(ResultSet rs) throws SQLException {
+        Lesson lesson = new Lesson(
+                rs.getLong("parent_id"),
+                rs.getString("text1"),
+                rs.getString("text2"),
+                rs.getInt("order_index"),
+                rs.getObject("xp_reward", Integer.class),
+                rs.getString("text3"));
+        lesson.setId(rs.getLong("id"));
+        lesson.setCreatedAt(toLocalDateTime(rs.getTimestamp("created_at")));
+        return lesson;
+    }
+
+    private static LessonContent mapContent(ResultSet rs) throws SQLException {
+        LessonContent content = new LessonContent(
+                rs.getLong("parent_id"),
+                rs.getString("text1"),
+                rs.getString("text2"),
+                rs.getInt("order_index"));
+        content.setId(rs.getLong("id"));
+        content.setCreatedAt(toLocalDateTime(rs.getTimestamp("created_at")));
+        return content;
+    }
+
+    private static Quiz mapQuiz(ResultSet rs) throws SQLException {
+        Quiz quiz = new Quiz(
+                rs.getLong("parent_id"),
+                rs.getString("text1"),
+                rs.getString("text2"),
+                rs.getString("text3"),
+                rs.getString("text4"),
+                rs.getString("text5"),
+                rs.getString("text6"),
+                rs.getInt("order_index"));
+        quiz.setId(rs.getLong("id"));
+        quiz.setCreatedAt(toLocalDateTime(rs.getTimestamp("created_at")));
+        return quiz;
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+}
@@ -0,0 +1,28 @@
+package com.chefscircle.backend.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.chefscircle.backend.model.LessonCompletionEvent;
+
+import jakarta.persistence.LockModeType;
+
+public interface LessonCompletionEventRepository extends JpaRepository<LessonCompletionEvent, Long> {
+    List<LessonCompletionEvent> findByProcessedAtIsNullAndIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
+
+    // Row locks make the claim exclusive: a second worker blocks, then sees the events as processed
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<LessonCompletionEvent> findByIdInAndProcessedAtIsNull(Collection<Long> ids);
+
+    @Modifying
+    @Query("update LessonCompletionEvent e set e.processedAt = :processedAt where e.id in :ids")
+    int markProcessed(@Param("ids") Collection<Long> ids, @Param("processedAt") LocalDateTime processedAt);
+}
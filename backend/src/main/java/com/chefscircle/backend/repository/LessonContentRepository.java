@@ -1,12 +1,19 @@
 package com.chefscircle.backend.repository;
 
 import com.chefscircle.backend.model.LessonContent;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 
 @Repository
 public interface LessonContentRepository extends JpaRepository<LessonContent, Long> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<LessonContent> findByLessonIdOrderByOrderIndex(Long lessonId);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<LessonContent> findAll();
 } 
\ No newline at end of file
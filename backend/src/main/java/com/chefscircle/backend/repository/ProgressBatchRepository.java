@@ -0,0 +1,203 @@
+package com.chefscircle.backend.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import com.chefscircle.backend.model.UserProgress;
+
+/**
+ * JDBC batch writes for bulk progress syncs.
+ *
+ * <p>user_progress and lesson_completion_events use IDENTITY keys, which stops
+ * Hibernate from batching inserts. These statements go through JdbcTemplate
+ * batches instead; with {@code rewriteBatchedStatements=true} on the connection URL
+ * Connector/J folds each batch into a single multi-row statement. Everything joins
+ * the caller's transaction.
+ */
+@Repository
+public class ProgressBatchRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ProgressBatchRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Loads existing rows for any of the given users and lessons. The result can
+     * contain pairs that were not asked for; callers match on (userId, lessonId).
+     * Only id, userId, lessonId and status are filled in.
+     *
+     * <p>This is a locking read: the rows, and the gaps where missing pairs would go,
+     * stay locked until the caller's transaction ends, so a concurrent single-row
+     * write can't complete a pair between this read and the batch writes.
+     */
+    public List<UserProgress> findExisting(Collection<Long> userIds, Collection<Long> lessonIds) {
+        if (userIds.isEmpty() || lessonIds.isEmpty()) {
+            return List.of();
+        }
+        String sql = "SELECT id, user_id, lesson_id, status FROM user_progress"
+                + " WHERE user_id IN (" + placeholders(userIds.size()) + ")"
+                + " AND lesson_id IN (" + placeholders(lessonIds.size()) + ")"
+                + " FOR UPDATE";
+        List<Object> args = new ArrayList<>(userIds);
+        args.addAll(lessonIds);
+        return jdbcTemplate.query(sql, (rs, rowNum) -> {
+            UserProgress progress = new UserProgress(rs.getLong("user_id"), rs.getLong("lesson_id"), rs.getString("status"));
+            progress.setId(rs.getLong("id"));
+            return progress;
+        }, args.toArray());
+    }
+
+    /**
+     * Inserts rows that had no match in {@link #findExisting}. A row written in between
+     * (by the single-row endpoint or an unlock) is updated instead, with the same rules
+     * as the single-row path: a completed row stays as it is when completed again, and
+     * other statuses replace status and score but keep completed_at.
+     */
+    public void insertProgress(List<UserProgress> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        // status is assigned last so the IFs still see the old value
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO user_progress (user_id, lesson_id, status, completed_at, score, created_at)"
+                        + " VALUES (?, ?, ?, ?, ?, ?)"
+                        + " ON DUPLICATE KEY UPDATE"
+                        + " completed_at = IF(status = 'completed' AND VALUES(status) = 'completed',"
+                        + " completed_at, COALESCE(VALUES(completed_at), completed_at)),"
+                        + " score = IF(status = 'completed' AND VALUES(status) = 'completed', score, VALUES(score)),"
+                        + " status = VALUES(status)",
+                rows, rows.size(), (ps, row) -> {
+                    ps.setLong(1, row.getUserId());
+                    ps.setLong(2, row.getLessonId());
+                    ps.setString(3, row.getStatus());
+                    setTimestamp(ps, 4, row.getCompletedAt());
+                    setInteger(ps, 5, row.getScore());
+                    setTimestamp(ps, 6, row.getCreatedAt());
+                });
+    }
+
+    /**
+     * Updates rows by id with the same rules as {@link #insertProgress} and the single-row
+     * endpoint: a completed row stays as it is when completed again; other writes replace
+     * status and score, and completed_at only when the row carries one.
+     */
+    public void updateProgress(List<UserProgress> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        // status is assigned last so the IFs still see the old value
+        jdbcTemplate.batchUpdate(
+                "UPDATE user_progress SET"
+                        + " completed_at = IF(status = 'completed' AND ? = 'completed',"
+                        + " completed_at, COALESCE(?, completed_at)),"
+                        + " score = IF(status = 'completed' AND ? = 'completed', score, ?),"
+                        + " status = ?"
+                        + " WHERE id = ?",
+                rows, rows.size(), (ps, row) -> {
+                    ps.setString(1, row.getStatus());
+                    setTimestamp(ps, 2, row.getCompletedAt());
+                    ps.setString(3, row.getStatus());
+                    setInteger(ps, 4, row.getScore());
+                    ps.setString(5, row.getStatus());
+                    ps.setLong(6, row.getId());
+                });
+    }
+
+    /**
+     * Makes each (user, lesson) available: inserts a row where there is none and opens
+     * 'locked' rows. Available and completed rows are left alone.
+     */
+    public void insertUnlocked(List<UserProgress> rows, LocalDateTime createdAt) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO user_progress (user_id, lesson_id, status, created_at) VALUES (?, ?, 'available', ?)"
+                        + " ON DUPLICATE KEY UPDATE status = IF(status = 'locked', 'available', status)",
+                rows, rows.size(), (ps, row) -> {
+                    ps.setLong(1, row.getUserId());
+                    ps.setLong(2, row.getLessonId());
+                    ps.setTimestamp(3, Timestamp.valueOf(createdAt));
+                });
+    }
+
+    /**
+     * Completed (user, lesson) pairs for users with ids in (fromUserId, toUserId].
+     * Only userId, lessonId and status are filled in.
+     */
+    public List<UserProgress> findCompletedForUsers(long fromUserId, long toUserId) {
+        return jdbcTemplate.query(
+                "SELECT user_id, lesson_id FROM user_progress"
+                        + " WHERE status = 'completed' AND user_id > ? AND user_id <= ?",
+                (rs, rowNum) -> new UserProgress(rs.getLong("user_id"), rs.getLong("lesson_id"), "completed"),
+                fromUserId, toUserId);
+    }
+
+    /**
+     * Inserts one outbox row per completed progress row.
+     *
+     * @return generated event ids, in input order
+     */
+    public List<Long> insertCompletionEvents(List<UserProgress> completed, LocalDateTime createdAt) {
+        if (completed.isEmpty()) {
+            return List.of();
+        }
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(con -> con.prepareStatement(
+                        "INSERT INTO lesson_completion_events (user_id, lesson_id, created_at) VALUES (?, ?, ?)",
+                        Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        UserProgress row = completed.get(i);
+                        ps.setLong(1, row.getUserId());
+                        ps.setLong(2, row.getLessonId());
+                        ps.setTimestamp(3, Timestamp.valueOf(createdAt));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return completed.size();
+                    }
+                }, keys);
+        List<Long> ids = new ArrayList<>(completed.size());
+        keys.getKeyList().forEach(key -> ids.add(((Number) key.values().iterator().next()).longValue()));
+        return ids;
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    private static void setTimestamp(PreparedStatement ps, int index, LocalDateTime value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.TIMESTAMP);
+        } else {
+            ps.setTimestamp(index, Timestamp.valueOf(value));
+        }
+    }
+
+    private static void setInteger(PreparedStatement ps, int index, Integer value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.INTEGER);
+        } else {
+            ps.setInt(index, value);
+        }
+    }
+}
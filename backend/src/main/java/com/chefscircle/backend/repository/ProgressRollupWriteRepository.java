@@ -0,0 +1,78 @@
+package com.chefscircle.backend.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.chefscircle.backend.model.UserProgressRollupId;
+
+/**
+ * Native writes for user_progress_rollups. Joins the caller's transaction.
+ */
+@Repository
+public class ProgressRollupWriteRepository {
+
+    private static final String APPLY_DELTA_SQL = """
+            INSERT INTO user_progress_rollups (user_id, scope_type, scope_id, completed)
+            VALUES (?, ?, ?, GREATEST(0, ?))
+            ON DUPLICATE KEY UPDATE completed = GREATEST(0, completed + ?)
+            """;
+
+    private static final String DELETE_USERS_SQL =
+            "DELETE FROM user_progress_rollups WHERE user_id > ? AND user_id <= ?";
+
+    private static final String REBUILD_SKILLS_SQL = """
+            INSERT INTO user_progress_rollups (user_id, scope_type, scope_id, completed)
+            SELECT p.user_id, 'skill', l.skill_id, COUNT(*)
+              FROM user_progress p
+              JOIN lessons l ON l.id = p.lesson_id
+             WHERE p.status = 'completed' AND p.user_id > ? AND p.user_id <= ?
+             GROUP BY p.user_id, l.skill_id
+            """;
+
+    private static final String REBUILD_CUISINES_SQL = """
+            INSERT INTO user_progress_rollups (user_id, scope_type, scope_id, completed)
+            SELECT p.user_id, 'cuisine', s.cuisine_id, COUNT(*)
+              FROM user_progress p
+              JOIN lessons l ON l.id = p.lesson_id
+              JOIN skills s ON s.id = l.skill_id
+             WHERE p.status = 'completed' AND p.user_id > ? AND p.user_id <= ?
+             GROUP BY p.user_id, s.cuisine_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ProgressRollupWriteRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Adds each delta to its counter in one batch, creating missing rows. Counters never go below zero.
+     */
+    public void applyDeltas(Map<UserProgressRollupId, Integer> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        deltas.forEach((id, delta) -> {
+            if (delta != 0) {
+                args.add(new Object[] {id.getUserId(), id.getScopeType(), id.getScopeId(), delta, delta});
+            }
+        });
+        if (!args.isEmpty()) {
+            jdbcTemplate.batchUpdate(APPLY_DELTA_SQL, args);
+        }
+    }
+
+    /**
+     * Recomputes every counter for users with ids in (fromUserId, toUserId] from user_progress.
+     */
+    public void rebuildUsers(long fromUserId, long toUserId) {
+        jdbcTemplate.update(DELETE_USERS_SQL, fromUserId, toUserId);
+        jdbcTemplate.update(REBUILD_SKILLS_SQL, fromUserId, toUserId);
+        jdbcTemplate.update(REBUILD_CUISINES_SQL, fromUserId, toUserId);
+    }
+}
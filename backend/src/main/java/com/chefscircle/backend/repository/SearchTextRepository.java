@@ -0,0 +1,65 @@
+package com.chefscircle.backend.repository;
+
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Reads the searchable text of lessons: name and description, content section
+ * titles and bodies, and quiz questions. One UNION ALL per load, in a stable order,
+ * so the search index can be (re)built without going through the persistence context.
+ */
+@Repository
+public class SearchTextRepository {
+
+    public static final String FIELD_NAME = "name";
+    public static final String FIELD_DESCRIPTION = "description";
+    public static final String FIELD_SECTION_TITLE = "section_title";
+    public static final String FIELD_CONTENT = "content";
+    public static final String FIELD_QUESTION = "question";
+
+    private static final String TEXT_SQL = """
+            SELECT l.id AS lesson_id, 'name' AS field, l.name AS text
+              FROM lessons l %1$s
+            UNION ALL
+            SELECT l.id, 'description', l.description
+              FROM lessons l %1$s
+            UNION ALL
+            SELECT c.lesson_id, 'section_title', c.section_title
+              FROM lesson_content c %2$s
+            UNION ALL
+            SELECT c.lesson_id, 'content', c.content_text
+              FROM lesson_content c %2$s
+            UNION ALL
+            SELECT q.lesson_id, 'question', q.question_text
+              FROM quizzes q %3$s
+            ORDER BY lesson_id, field, text
+            """;
+
+    private static final String ALL_SQL = TEXT_SQL.formatted("", "", "");
+    private static final String ONE_LESSON_SQL = TEXT_SQL.formatted(
+            "WHERE l.id = ?", "WHERE c.lesson_id = ?", "WHERE q.lesson_id = ?");
+
+    private static final RowMapper<TextRow> ROW_MAPPER = (rs, rowNum) -> new TextRow(
+            rs.getLong("lesson_id"), rs.getString("field"), rs.getString("text"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SearchTextRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public List<TextRow> findAll() {
+        return jdbcTemplate.query(ALL_SQL, ROW_MAPPER);
+    }
+
+    public List<TextRow> findByLessonId(Long lessonId) {
+        return jdbcTemplate.query(ONE_LESSON_SQL, ROW_MAPPER,
+                lessonId, lessonId, lessonId, lessonId, lessonId);
+    }
+
+    public record TextRow(long lessonId, String field, String text) {
+    }
+}
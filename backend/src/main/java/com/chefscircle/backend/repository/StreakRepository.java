@@ -2,11 +2,37 @@ package com.chefscircle.backend.repository;
 
 import com.chefscircle.backend.model.Streak;
 import com.chefscircle.backend.model.User;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import jakarta.persistence.LockModeType;
+
 import java.util.Optional;
 import java.util.List;
 
 public interface StreakRepository extends JpaRepository<Streak, Long> {
     List<Streak> findByUser(User user);
     Optional<Streak> findTopByUserOrderByLastActiveDtDesc(User user);
+
+    // One row per user; ordering only guards against legacy duplicates
+    Optional<Streak> findFirstByUserIdOrderByIdDesc(Long userId);
+
+    // The user's row, locked for the read-modify-write in StreakService
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<Streak> findForUpdateByUserId(Long userId);
+
+    // Creates the user's row if missing so there is always one to lock; a no-op otherwise
+    @Modifying
+    @Query(value = "INSERT INTO streak (usr_id, curr_streak, longest_streak) VALUES (:userId, 0, 0)"
+            + " ON DUPLICATE KEY UPDATE usr_id = usr_id", nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId);
+
+    // Fetch the owning user in the same query instead of one select per streak
+    @EntityGraph(attributePaths = "user")
+    List<Streak> findByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
 }
@@ -3,10 +3,21 @@ package com.chefscircle.backend.repository;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import com.chefscircle.backend.model.AchievementDTO;
 import com.chefscircle.backend.model.UserAchievement;
 import com.chefscircle.backend.model.UserAchievementId;
 
 public interface UserAchievementRepository extends JpaRepository<UserAchievement, UserAchievementId> {
     List<UserAchievement> findByIdUserId(Long userId);
+
+    // Every achievement with the user's unlocked flag, computed by the join instead of in memory
+    @Query("select new com.chefscircle.backend.model.AchievementDTO(a.id, a.title, a.description, a.icon, "
+            + "case when ua.id.userId is null then false else true end) "
+            + "from Achievement a left join UserAchievement ua "
+            + "on ua.id.achievementId = a.id and ua.id.userId = :userId "
+            + "order by a.id")
+    List<AchievementDTO> findAchievementsForUser(@Param("userId") Long userId);
 }
@@ -0,0 +1,105 @@
+package com.chefscircle.backend.repository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Forward-only scan over user_progress for bulk exports.
+ *
+ * <p>The statement is opened read-only with a fetch size of {@link Integer#MIN_VALUE},
+ * which makes MySQL Connector/J stream rows one at a time instead of buffering the
+ * whole result. Each row is handed to the writer and dropped, so memory use does not
+ * grow with the table. No transaction is opened; the scan runs as one autocommit read.
+ */
+@Repository
+public class UserProgressExportRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public UserProgressExportRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Streams every row matching the filters. {@code from} is inclusive and {@code to}
+     * exclusive, both applied to completed_at; any filter left null is ignored.
+     *
+     * @return number of rows written
+     */
+    public long streamProgress(LocalDateTime from, LocalDateTime to, String status, RowWriter writer) {
+        StringBuilder sql = new StringBuilder(
+                "SELECT id, user_id, lesson_id, status, completed_at, score, created_at FROM user_progress WHERE 1 = 1");
+        List<Object> args = new ArrayList<>();
+        if (status != null) {
+            sql.append(" AND status = ?");
+            args.add(status);
+        }
+        if (from != null) {
+            sql.append(" AND completed_at >= ?");
+            args.add(Timestamp.valueOf(from));
+        }
+        if (to != null) {
+            sql.append(" AND completed_at < ?");
+            args.add(Timestamp.valueOf(to));
+        }
+
+        long[] written = {0L};
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql.toString(),
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(Integer.MIN_VALUE);
+            for (int i = 0; i < args.size(); i++) {
+                ps.setObject(i + 1, args.get(i));
+            }
+            return ps;
+        }, rs -> {
+            try {
+                writer.write(new ProgressRow(
+                        rs.getLong("id"),
+                        rs.getLong("user_id"),
+                        rs.getLong("lesson_id"),
+                        rs.getString("status"),
+                        toLocalDateTime(rs.getTimestamp("completed_at")),
+                        rs.getObject("score", Integer.class),
+                        toLocalDateTime(rs.getTimestamp("created_at"))));
+                written[0]++;
+            } catch (IOException e) {
+                // Client went away. Cancel so the driver does not drain the rest of the stream on close.
+                cancelQuietly(rs);
+                throw new UncheckedIOException(e);
+            }
+        });
+        return written[0];
+    }
+
+    private static void cancelQuietly(ResultSet rs) {
+        try {
+            rs.getStatement().cancel();
+        } catch (SQLException ignored) {
+            // Best effort; closing the statement still releases it
+        }
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+
+    public record ProgressRow(long id, long userId, long lessonId, String status,
+                              LocalDateTime completedAt, Integer score, LocalDateTime createdAt) {
+    }
+
+    @FunctionalInterface
+    public interface RowWriter {
+        void write(ProgressRow row) throws IOException;
+    }
+}
@@ -1,9 +1,13 @@
 package com.chefscircle.backend.repository;
 
 import com.chefscircle.backend.model.UserProgress;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,4 +16,10 @@ public interface UserProgressRepository extends JpaRepository<UserProgress, Long
     List<UserProgress> findByUserId(Long userId);
     Optional<UserProgress> findByUserIdAndLessonId(Long userId, Long lessonId);
     List<UserProgress> findByUserIdAndStatus(Long userId, String status);
+    List<UserProgress> findByUserIdAndLessonIdIn(Long userId, Collection<Long> lessonIds);
+    List<UserProgress> findByUserIdAndIdGreaterThanOrderByIdAsc(Long userId, Long afterId, Limit limit);
+    long countByUserId(Long userId);
+
+    @Query("select p.lessonId from UserProgress p where p.userId = :userId and p.status = 'completed'")
+    List<Long> findCompletedLessonIds(@Param("userId") Long userId);
 } 
\ No newline at end of file
@@ -0,0 +1,12 @@
+package com.chefscircle.backend.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.chefscircle.backend.model.UserProgressRollup;
+import com.chefscircle.backend.model.UserProgressRollupId;
+
+public interface UserProgressRollupRepository extends JpaRepository<UserProgressRollup, UserProgressRollupId> {
+    List<UserProgressRollup> findByIdUserId(Long userId);
+}
@@ -0,0 +1,110 @@
+package com.chefscircle.backend.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Native single-row writes for user_progress, relying on the unique (user_id, lesson_id) key
+ * instead of a read-then-save. Joins the caller's transaction.
+ */
+@Repository
+public class UserProgressUpsertRepository {
+
+    // A placeholder for a (user, lesson) with no row yet; 'locked' is what a missing row means
+    private static final String CREATE_IF_ABSENT_SQL = """
+            INSERT INTO user_progress (user_id, lesson_id, status, created_at)
+            VALUES (?, ?, 'locked', ?)
+            ON DUPLICATE KEY UPDATE id = id
+            """;
+
+    private static final String LOCK_STATUS_SQL = """
+            SELECT status FROM user_progress WHERE user_id = ? AND lesson_id = ? FOR UPDATE
+            """;
+
+    private static final String SET_STATUS_SQL = """
+            UPDATE user_progress SET status = ?, score = ? WHERE user_id = ? AND lesson_id = ?
+            """;
+
+    private static final String COMPLETE_SQL = """
+            UPDATE user_progress SET status = 'completed', completed_at = ?, score = ?
+             WHERE user_id = ? AND lesson_id = ?
+            """;
+
+    private static final String UNLOCK_SQL = """
+            UPDATE user_progress SET status = 'available' WHERE user_id = ? AND lesson_id = ?
+            """;
+
+    private static final String RECORD_SCORE_SQL = """
+            INSERT INTO user_progress (user_id, lesson_id, status, score, created_at)
+            VALUES (?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE score = IF(status = 'completed', score, VALUES(score))
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public UserProgressUpsertRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Inserts or updates a non-completed status. completed_at is left as it was.
+     *
+     * @return true if the row was completed before this call
+     */
+    public boolean upsertStatus(Long userId, Long lessonId, String status, Integer score) {
+        boolean wasCompleted = "completed".equals(lockStatus(userId, lessonId));
+        jdbcTemplate.update(SET_STATUS_SQL, status, score, userId, lessonId);
+        return wasCompleted;
+    }
+
+    /**
+     * Marks the lesson completed for the user. An already completed row is left as it is.
+     *
+     * @return true if the status moved to completed with this call
+     */
+    public boolean complete(Long userId, Long lessonId, Integer score) {
+        if ("completed".equals(lockStatus(userId, lessonId))) {
+            return false;
+        }
+        jdbcTemplate.update(COMPLETE_SQL, Timestamp.valueOf(LocalDateTime.now()), score, userId, lessonId);
+        return true;
+    }
+
+    /**
+     * Opens a lesson for the user: inserts an 'available' row, or moves a 'locked' one to 'available'.
+     * Available and completed rows are left as they are.
+     *
+     * @return true if the lesson became available with this call
+     */
+    public boolean unlock(Long userId, Long lessonId) {
+        if (!"locked".equals(lockStatus(userId, lessonId))) {
+            return false;
+        }
+        jdbcTemplate.update(UNLOCK_SQL, userId, lessonId);
+        return true;
+    }
+
+    /**
+     * Writes a score without changing an existing row's status; completed rows keep their score.
+     *
+     * @param statusIfNew status for the row if the user has none for this lesson yet
+     */
+    public void recordScore(Long userId, Long lessonId, String statusIfNew, Integer score) {
+        jdbcTemplate.update(RECORD_SCORE_SQL, userId, lessonId, statusIfNew, score, Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    /**
+     * Returns the row's status, holding its lock until the caller's transaction ends. A missing
+     * row is first created as 'locked', so the lock is always a record lock: two first writes
+     * for the same pair queue on the insert instead of both taking gap locks and deadlocking.
+     * Transitions are decided from this status rather than from affected-row counts, which
+     * depend on connection flags the JPA side also sees.
+     */
+    private String lockStatus(Long userId, Long lessonId) {
+        jdbcTemplate.update(CREATE_IF_ABSENT_SQL, userId, lessonId, Timestamp.valueOf(LocalDateTime.now()));
+        return jdbcTemplate.queryForObject(LOCK_STATUS_SQL, String.class, userId, lessonId);
+    }
+}
@@ -1,11 +1,48 @@
 package com.chefscircle.backend.repository;
 
 import com.chefscircle.backend.model.User;
+import com.chefscircle.backend.model.UserHandleDTO;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
 
     Optional<User> findByUsername(String username);
-}
\ No newline at end of file
+
+    // Index-only existence probes for when the availability filter reports "maybe present"
+    boolean existsByUsername(String username);
+
+    boolean existsByEmail(String email);
+
+    @Query("select new com.chefscircle.backend.model.UserHandleDTO(u.id, u.username, u.email) "
+            + "from User u where u.id > :afterId order by u.id")
+    List<UserHandleDTO> findHandlesAfter(@Param("afterId") Long afterId, Limit limit);
+
+    List<User> findByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
+
+    @Query("select u.id from User u where u.id in :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    // Atomic in-database increment so concurrent awards never overwrite each other
+    @Modifying
+    @Query("update User u set u.xp = u.xp + :delta where u.id = :userId")
+    int incrementXp(@Param("userId") Long userId, @Param("delta") int delta);
+
+    // Compare-and-set so a rehash on login never overwrites a password changed in the meantime
+    @Modifying
+    @Transactional
+    @Query("update User u set u.pwd = :newPwd where u.id = :userId and u.pwd = :oldPwd")
+    int replacePwd(@Param("userId") Long userId, @Param("oldPwd") String oldPwd, @Param("newPwd") String newPwd);
+
+    @Query("select u.xp from User u where u.id = :userId")
+    Optional<Integer> findXpById(@Param("userId") Long userId);
+}
@@ -0,0 +1,293 @@
+package com.chefscircle.backend.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.chefscircle.backend.model.Achievement;
+import com.chefscircle.backend.model.AchievementRuleType;
+import com.chefscircle.backend.model.UserAchievement;
+import com.chefscircle.backend.model.UserAchievementId;
+import com.chefscircle.backend.repository.AchievementRepository;
+import com.chefscircle.backend.repository.UserAchievementRepository;
+
+/**
+ * Awards achievements from the rule columns on the achievements table.
+ *
+ * <p>Rules are compiled into an index keyed by what can trigger them (a lesson
+ * completion in a given cuisine, an XP change, a streak change), each list sorted
+ * by threshold, so an event only looks at the rules it can affect and stops at the
+ * first threshold the user has not reached. Lesson counts come from
+ * {@link CompletedLessonIndex}, which also sees uncompletions; each user's unlocked
+ * achievements are kept in a bounded LRU cache, seeded once from the database.
+ */
+@Service
+public class AchievementRuleEngine {
+
+    private final AchievementRepository achievementRepository;
+    private final UserAchievementRepository userAchievementRepository;
+    private final CompletedLessonIndex completedLessonIndex;
+    private final CatalogService catalogService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Map<Long, UserUnlocks> unlocksByUser;
+    private volatile RuleIndex index;
+
+    public AchievementRuleEngine(AchievementRepository achievementRepository,
+                                 UserAchievementRepository userAchievementRepository,
+                                 CompletedLessonIndex completedLessonIndex,
+                                 CatalogService catalogService,
+                                 ApplicationEventPublisher eventPublisher,
+                                 @Value("${chefscircle.achievements.user-cache-size:10000}") int userCacheSize) {
+        this.achievementRepository = achievementRepository;
+        this.userAchievementRepository = userAchievementRepository;
+        this.completedLessonIndex = completedLessonIndex;
+        this.catalogService = catalogService;
+        this.eventPublisher = eventPublisher;
+        this.unlocksByUser = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, UserUnlocks> eldest) {
+                return size() > userCacheSize;
+            }
+        });
+    }
+
+    /**
+     * Recompiles the rule index. "Every lesson in a cuisine" thresholds depend on the
+     * catalog, so this also runs whenever the catalog is reloaded.
+     */
+    @EventListener({ApplicationReadyEvent.class, CatalogReloadedEvent.class})
+    public void reload() {
+        index = RuleIndex.compile(achievementRepository.findAll(), catalogService.getSnapshot());
+    }
+
+    /**
+     * Awards any lesson-count achievements that completing {@code lessonIds} unlocks.
+     * The completions must already be committed, as they are when the outbox is processed.
+     *
+     * @return ids of achievements newly unlocked by this call
+     */
+    public List<Long> onLessonsCompleted(Long userId, Collection<Long> lessonIds) {
+        CatalogSnapshot catalog = catalogService.getSnapshot();
+        RuleIndex rules = rules();
+        Set<Long> touchedCuisines = new HashSet<>();
+        for (Long lessonId : lessonIds) {
+            Long cuisineId = catalog.findCuisineIdForLesson(lessonId);
+            if (cuisineId != null && rules.lessonsInCuisine.containsKey(cuisineId)) {
+                touchedCuisines.add(cuisineId);
+            }
+        }
+        if (rules.lessonsTotal.isEmpty() && touchedCuisines.isEmpty()) {
+            return List.of();
+        }
+
+        UserUnlocks unlocks = unlocksFor(userId);
+        synchronized (unlocks) {
+            List<Long> unlocked = new ArrayList<>();
+            if (!rules.lessonsTotal.isEmpty()) {
+                collect(rules.lessonsTotal, completedLessonIndex.countCompleted(userId), unlocks, unlocked);
+            }
+            for (Long cuisineId : touchedCuisines) {
+                collect(rules.lessonsInCuisine.get(cuisineId),
+                        completedLessonIndex.countCompletedInCuisine(userId, cuisineId), unlocks, unlocked);
+            }
+            return persist(userId, unlocked);
+        }
+    }
+
+    public List<Long> onXpChanged(Long userId, int xp) {
+        return onValueChanged(userId, rules().xp, xp);
+    }
+
+    public List<Long> onStreakChanged(Long userId, int currentStreak) {
+        return onValueChanged(userId, rules().streak, currentStreak);
+    }
+
+    public void evict(Long userId) {
+        unlocksByUser.remove(userId);
+    }
+
+    private List<Long> onValueChanged(Long userId, List<Rule> rules, int value) {
+        if (rules.isEmpty() || rules.get(0).threshold() > value) {
+            return List.of();
+        }
+        UserUnlocks unlocks = unlocksFor(userId);
+        synchronized (unlocks) {
+            List<Long> unlocked = new ArrayList<>();
+            collect(rules, value, unlocks, unlocked);
+            return persist(userId, unlocked);
+        }
+    }
+
+    /**
+     * Walks a threshold-sorted rule list until the first rule the value does not reach.
+     */
+    private static void collect(List<Rule> rules, int value, UserUnlocks unlocks, List<Long> unlocked) {
+        for (Rule rule : rules) {
+            if (rule.threshold() > value) {
+                break;
+            }
+            if (unlocks.unlock(rule.achievementId())) {
+                unlocked.add(rule.achievementId());
+            }
+        }
+    }
+
+    private List<Long> persist(Long userId, List<Long> unlocked) {
+        if (unlocked.isEmpty()) {
+            return unlocked;
+        }
+        List<UserAchievement> rows = new ArrayList<>(unlocked.size());
+        for (Long achievementId : unlocked) {
+            UserAchievement row = new UserAchievement();
+            row.setId(new UserAchievementId(userId, achievementId));
+            rows.add(row);
+        }
+        userAchievementRepository.saveAll(rows);
+        eventPublisher.publishEvent(new UserAchievementsChangedEvent(userId));
+        return unlocked;
+    }
+
+    private RuleIndex rules() {
+        RuleIndex current = index;
+        if (current == null) {
+            reload();
+            current = index;
+        }
+        return current;
+    }
+
+    private UserUnlocks unlocksFor(Long userId) {
+        UserUnlocks unlocks = unlocksByUser.get(userId);
+        if (unlocks == null) {
+            unlocks = seed(userId);
+            UserUnlocks raced = unlocksByUser.putIfAbsent(userId, unlocks);
+            if (raced != null) {
+                unlocks = raced;
+            }
+        }
+        evictOnRollback(userId);
+        return unlocks;
+    }
+
+    private UserUnlocks seed(Long userId) {
+        UserUnlocks unlocks = new UserUnlocks();
+        userAchievementRepository.findByIdUserId(userId)
+                .forEach(ua -> unlocks.unlock(ua.getId().getAchievementId()));
+        return unlocks;
+    }
+
+    /**
+     * Unlocks are cached before the surrounding transaction commits. If it rolls
+     * back, drop them so they are re-seeded from what actually got written.
+     */
+    private void evictOnRollback(Long userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        evict(userId);
+                    }
+                }
+            });
+        }
+    }
+
+    private record Rule(Long achievementId, int threshold) {
+    }
+
+    private static final class RuleIndex {
+
+        private static final Comparator<Rule> BY_THRESHOLD = Comparator.comparingInt(Rule::threshold)
+                .thenComparing(Rule::achievementId);
+
+        private final Map<Long, List<Rule>> lessonsInCuisine;
+        private final List<Rule> lessonsTotal;
+        private final List<Rule> xp;
+        private final List<Rule> streak;
+
+        private RuleIndex(Map<Long, List<Rule>> lessonsInCuisine, List<Rule> lessonsTotal,
+                          List<Rule> xp, List<Rule> streak) {
+            this.lessonsInCuisine = lessonsInCuisine;
+            this.lessonsTotal = lessonsTotal;
+            this.xp = xp;
+            this.streak = streak;
+        }
+
+        static RuleIndex compile(List<Achievement> achievements, CatalogSnapshot catalog) {
+            Map<Long, List<Rule>> byCuisine = new HashMap<>();
+            Map<AchievementRuleType, List<Rule>> byType = new EnumMap<>(AchievementRuleType.class);
+
+            for (Achievement achievement : achievements) {
+                AchievementRuleType type = achievement.getRuleType();
+                if (type == null) {
+                    continue;
+                }
+                Integer threshold = achievement.getRuleThreshold();
+                if (type == AchievementRuleType.LESSONS_IN_CUISINE) {
+                    if (achievement.getRuleTargetId() == null) {
+                        continue;
+                    }
+                    if (threshold == null) {
+                        threshold = catalog.countLessonsInCuisine(achievement.getRuleTargetId());
+                    }
+                }
+                if (threshold == null || threshold <= 0) {
+                    continue;
+                }
+
+                Rule rule = new Rule(achievement.getId(), threshold);
+                if (type == AchievementRuleType.LESSONS_IN_CUISINE) {
+                    byCuisine.computeIfAbsent(achievement.getRuleTargetId(), k -> new ArrayList<>()).add(rule);
+                } else {
+                    byType.computeIfAbsent(type, k -> new ArrayList<>()).add(rule);
+                }
+            }
+
+            Map<Long, List<Rule>> sortedByCuisine = new HashMap<>();
+            byCuisine.forEach((cuisineId, rules) -> sortedByCuisine.put(cuisineId, sorted(rules)));
+            return new RuleIndex(
+                    Map.copyOf(sortedByCuisine),
+                    sorted(byType.get(AchievementRuleType.LESSONS_TOTAL)),
+                    sorted(byType.get(AchievementRuleType.XP)),
+                    sorted(byType.get(AchievementRuleType.STREAK)));
+        }
+
+        private static List<Rule> sorted(List<Rule> rules) {
+            if (rules == null) {
+                return List.of();
+            }
+            rules.sort(BY_THRESHOLD);
+            return List.copyOf(rules);
+        }
+    }
+
+    /**
+     * Achievements a user has unlocked, so a replayed event does not award one twice.
+     */
+    private static final class UserUnlocks {
+
+        private final Set<Long> unlockedAchievements = new HashSet<>();
+
+        boolean unlock(Long achievementId) {
+            return unlockedAchievements.add(achievementId);
+        }
+    }
+}
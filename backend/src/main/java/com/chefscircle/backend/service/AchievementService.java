@@ -1,50 +1,129 @@
 package com.chefscircle.backend.service;
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import com.chefscircle.backend.model.Achievement;
 import com.chefscircle.backend.model.AchievementDTO;
-import com.chefscircle.backend.model.UserAchievement;
 import com.chefscircle.backend.repository.AchievementRepository;
 import com.chefscircle.backend.repository.UserAchievementRepository;
 
+/**
+ * Serves the achievements tab. The achievement list is shared by every user and
+ * each user's unlocked ids are cached as a bitset indexed by achievement id, so a
+ * cache hit is a memory lookup over the shared list. A miss runs one LEFT JOIN that
+ * computes the unlocked flags in SQL and seeds the bitset from the result.
+ */
 @Service
 public class AchievementService {
 
     private final AchievementRepository achievementRepository;
     private final UserAchievementRepository userAchievementRepository;
 
+    private final Map<Long, BitSet> unlockedByUser;
+    // Bumped on every invalidation so a miss that raced with a write does not cache stale bits
+    private final AtomicLong invalidations = new AtomicLong();
+    private volatile List<Achievement> achievements;
+
     // Using constructor injection here to vary style across the codebase
     public AchievementService(
             AchievementRepository achievementRepository,
-            UserAchievementRepository userAchievementRepository
+            UserAchievementRepository userAchievementRepository,
+            @Value("${chefscircle.achievements.unlocked-cache-size:10000}") int unlockedCacheSize
     ) {
         this.achievementRepository = achievementRepository;
         this.userAchievementRepository = userAchievementRepository;
+        this.unlockedByUser = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, BitSet> eldest) {
+                return size() > unlockedCacheSize;
+            }
+        });
+    }
+
+    /**
+     * Re-reads the shared achievement list. Catalog reloads also clear the
+     * second-level cache, which is when edited achievements become visible.
+     */
+    @EventListener({ApplicationReadyEvent.class, CatalogReloadedEvent.class})
+    public void reload() {
+        List<Achievement> loaded = new ArrayList<>(achievementRepository.findAll());
+        loaded.sort(Comparator.comparing(Achievement::getId));
+        achievements = List.copyOf(loaded);
+        invalidateAll();
     }
 
     public List<AchievementDTO> getAchievementsForUser(Long userId) {
-        List<Achievement> allAchievements = achievementRepository.findAll();
-        List<UserAchievement> userAchievements = userAchievementRepository.findByIdUserId(userId);
-
-        Set<Long> unlockedAchievementIds = userAchievements.stream()
-                .map(ua -> ua.getId().getAchievementId())
-                .collect(Collectors.toSet());
-
-        // NOTE This is a straightforward mapping If performance becomes a concern
-        // we could use a custom query with a join to compute unlocked in SQL
-        return allAchievements.stream()
-                .map(achievement -> new AchievementDTO(
-                        achievement.getId(),
-                        achievement.getTitle(),
-                        achievement.getDescription(),
-                        achievement.getIcon(),
-                        unlockedAchievementIds.contains(achievement.getId())
-                ))
-                .collect(Collectors.toList());
+        BitSet unlocked = unlockedByUser.get(userId);
+        if (unlocked == null) {
+            return loadAndCache(userId);
+        }
+
+        List<Achievement> all = sharedAchievements();
+        List<AchievementDTO> dtos = new ArrayList<>(all.size());
+        for (Achievement achievement : all) {
+            dtos.add(new AchievementDTO(
+                    achievement.getId(),
+                    achievement.getTitle(),
+                    achievement.getDescription(),
+                    achievement.getIcon(),
+                    unlocked.get(achievement.getId().intValue())));
+        }
+        return dtos;
+    }
+
+    /**
+     * Drops the cached unlocked set once the transaction that wrote the rows commits.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserAchievementsChanged(UserAchievementsChangedEvent event) {
+        evict(event.getUserId());
+    }
+
+    public void evict(Long userId) {
+        invalidations.incrementAndGet();
+        unlockedByUser.remove(userId);
+    }
+
+    public void invalidateAll() {
+        invalidations.incrementAndGet();
+        unlockedByUser.clear();
+    }
+
+    private List<AchievementDTO> loadAndCache(Long userId) {
+        long seenInvalidations = invalidations.get();
+        List<AchievementDTO> dtos = userAchievementRepository.findAchievementsForUser(userId);
+
+        BitSet unlocked = new BitSet();
+        for (AchievementDTO dto : dtos) {
+            if (dto.isUnlocked()) {
+                unlocked.set(dto.getId().intValue());
+            }
+        }
+        if (invalidations.get() == seenInvalidations) {
+            unlockedByUser.putIfAbsent(userId, unlocked);
+        }
+        return dtos;
+    }
+
+    private List<Achievement> sharedAchievements() {
+        List<Achievement> current = achievements;
+        if (current == null) {
+            reload();
+            current = achievements;
+        }
+        return current;
     }
 }
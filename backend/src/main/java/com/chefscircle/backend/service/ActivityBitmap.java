@@ -0,0 +1,113 @@
+package com.chefscircle.backend.service;
+
+import java.time.LocalDate;
+import java.util.BitSet;
+
+/**
+ * Day-granularity activity bitmap: bit {@code i} is set if the user was active on
+ * {@code origin + i days}. Streaks are runs of consecutive set bits and are found
+ * with {@link BitSet} scans rather than by walking dates.
+ */
+public final class ActivityBitmap {
+
+    private long originDay;
+    private BitSet bits;
+
+    private ActivityBitmap(long originDay, BitSet bits) {
+        this.originDay = originDay;
+        this.bits = bits;
+    }
+
+    public static ActivityBitmap of(LocalDate origin, byte[] bytes) {
+        if (origin == null || bytes == null) {
+            return new ActivityBitmap(0L, new BitSet());
+        }
+        return new ActivityBitmap(origin.toEpochDay(), BitSet.valueOf(bytes));
+    }
+
+    /**
+     * Marks a day active.
+     *
+     * @return false if the day was already marked
+     */
+    public boolean record(LocalDate day) {
+        long epochDay = day.toEpochDay();
+        if (bits.isEmpty()) {
+            originDay = epochDay;
+        } else if (epochDay < originDay) {
+            shiftOrigin(epochDay);
+        }
+        int index = (int) (epochDay - originDay);
+        if (bits.get(index)) {
+            return false;
+        }
+        bits.set(index);
+        return true;
+    }
+
+    /**
+     * Drops every day before {@code cutoff} so the bitmap stays a bounded window.
+     */
+    public void trimBefore(LocalDate cutoff) {
+        long cutoffDay = cutoff.toEpochDay();
+        if (bits.isEmpty() || cutoffDay <= originDay) {
+            return;
+        }
+        int drop = (int) Math.min(Integer.MAX_VALUE, cutoffDay - originDay);
+        bits = bits.get(drop, Math.max(drop, bits.length()));
+        originDay = cutoffDay;
+        int first = bits.nextSetBit(0);
+        if (first > 0) {
+            bits = bits.get(first, bits.length());
+            originDay += first;
+        }
+    }
+
+    public boolean isEmpty() {
+        return bits.isEmpty();
+    }
+
+    public LocalDate getOrigin() {
+        return bits.isEmpty() ? null : LocalDate.ofEpochDay(originDay);
+    }
+
+    public LocalDate getLastActiveDay() {
+        return bits.isEmpty() ? null : LocalDate.ofEpochDay(originDay + bits.length() - 1);
+    }
+
+    /**
+     * Length of the run of active days ending on the last active day.
+     */
+    public int currentRun() {
+        if (bits.isEmpty()) {
+            return 0;
+        }
+        int last = bits.length() - 1;
+        return last - bits.previousClearBit(last);
+    }
+
+    public int longestRun() {
+        int longest = 0;
+        int start = bits.nextSetBit(0);
+        while (start >= 0) {
+            int end = bits.nextClearBit(start);
+            longest = Math.max(longest, end - start);
+            start = bits.nextSetBit(end);
+        }
+        return longest;
+    }
+
+    public byte[] toByteArray() {
+        return bits.toByteArray();
+    }
+
+    private void shiftOrigin(long newOriginDay) {
+        int shift = (int) (originDay - newOriginDay);
+        BitSet shifted = new BitSet(bits.length() + shift);
+        for (int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1)) {
+            shifted.set(i + shift);
+        }
+        bits = shifted;
+        originDay = newOriginDay;
+    }
+}
@@ -0,0 +1,72 @@
+package com.chefscircle.backend.service;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+/**
+ * Hibernate second-level cache provider that keeps every region in process memory
+ * with size- and TTL-based eviction (see {@link BoundedRegionStorage}).
+ *
+ * <p>Configured through hibernate properties:
+ * {@code chefscircle.cache.max-entries} and {@code chefscircle.cache.ttl-seconds} set the
+ * defaults, and {@code chefscircle.cache.<region>.max-entries} / {@code .ttl-seconds}
+ * override them for one region. The update-timestamps region is never bounded or expired,
+ * since losing an entry there would let the query cache serve stale results.
+ */
+public class BoundedRegionFactory extends RegionFactoryTemplate {
+
+    private static final String PREFIX = "chefscircle.cache.";
+
+    private Map<String, Object> configValues = Map.of();
+    private int defaultMaxEntries;
+    private long defaultTtlSeconds;
+
+    @Override
+    protected void prepareForUse(SessionFactoryOptions settings, Map<String, Object> configValues) {
+        this.configValues = configValues;
+        this.defaultMaxEntries = (int) readLong(PREFIX + "max-entries", 10000);
+        this.defaultTtlSeconds = readLong(PREFIX + "ttl-seconds", 3600);
+    }
+
+    @Override
+    protected void releaseFromUse() {
+        // Storage is plain heap memory and is dropped with the regions
+    }
+
+    @Override
+    protected DomainDataStorageAccess createDomainDataStorageAccess(DomainDataRegionConfig regionConfig,
+                                                                    DomainDataRegionBuildingContext buildingContext) {
+        return storageFor(regionConfig.getRegionName());
+    }
+
+    @Override
+    protected StorageAccess createQueryResultsRegionStorageAccess(String regionName,
+                                                                  SessionFactoryImplementor sessionFactory) {
+        return storageFor(regionName);
+    }
+
+    @Override
+    protected StorageAccess createTimestampsRegionStorageAccess(String regionName,
+                                                                SessionFactoryImplementor sessionFactory) {
+        return new BoundedRegionStorage(Integer.MAX_VALUE, 0);
+    }
+
+    private BoundedRegionStorage storageFor(String regionName) {
+        int maxEntries = (int) readLong(PREFIX + regionName + ".max-entries", defaultMaxEntries);
+        long ttlSeconds = readLong(PREFIX + regionName + ".ttl-seconds", defaultTtlSeconds);
+        return new BoundedRegionStorage(maxEntries, TimeUnit.SECONDS.toMillis(ttlSeconds));
+    }
+
+    private long readLong(String key, long defaultValue) {
+        Object value = configValues.get(key);
+        return value == null ? defaultValue : Long.parseLong(value.toString().trim());
+    }
+}
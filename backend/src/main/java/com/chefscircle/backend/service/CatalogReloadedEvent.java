@@ -0,0 +1,18 @@
+package com.chefscircle.backend.service;
+
+/**
+ * Published after the catalog snapshot has been replaced so that anything
+ * derived from lesson content can drop its cached state.
+ */
+public class CatalogReloadedEvent {
+
+    private final CatalogSnapshot snapshot;
+
+    public CatalogReloadedEvent(CatalogSnapshot snapshot) {
+        this.snapshot = snapshot;
+    }
+
+    public CatalogSnapshot getSnapshot() {
+        return snapshot;
+    }
+}
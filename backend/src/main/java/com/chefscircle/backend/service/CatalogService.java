@@ -0,0 +1,80 @@
+package com.chefscircle.backend.service;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.chefscircle.backend.repository.CuisineRepository;
+import com.chefscircle.backend.repository.LessonRepository;
+import com.chefscircle.backend.repository.SkillRepository;
+
+/**
+ * Serves the cuisine/skill/lesson catalog from memory.
+ * The catalog changes rarely, so it is loaded once into an immutable snapshot
+ * and replaced wholesale on reload. Readers only dereference a volatile field.
+ */
+@Service
+public class CatalogService {
+
+    private final CuisineRepository cuisineRepository;
+    private final SkillRepository skillRepository;
+    private final LessonRepository lessonRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SecondLevelCacheService secondLevelCacheService;
+
+    private volatile CatalogSnapshot snapshot;
+
+    public CatalogService(CuisineRepository cuisineRepository,
+                          SkillRepository skillRepository,
+                          LessonRepository lessonRepository,
+                          ApplicationEventPublisher eventPublisher,
+                          SecondLevelCacheService secondLevelCacheService) {
+        this.cuisineRepository = cuisineRepository;
+        this.skillRepository = skillRepository;
+        this.lessonRepository = lessonRepository;
+        this.eventPublisher = eventPublisher;
+        this.secondLevelCacheService = secondLevelCacheService;
+    }
+
+    public CatalogSnapshot getSnapshot() {
+        CatalogSnapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (snapshot == null) {
+                snapshot = load();
+            }
+            return snapshot;
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        getSnapshot();
+    }
+
+    /**
+     * Re-reads the catalog and swaps it in. In-flight readers keep using the
+     * snapshot they already hold. Listeners are told via {@link CatalogReloadedEvent}.
+     * The second-level cache is cleared first so content edited in the database is picked up.
+     */
+    public CatalogSnapshot reload() {
+        CatalogSnapshot reloaded;
+        synchronized (this) {
+            secondLevelCacheService.evictAll();
+            reloaded = load();
+            snapshot = reloaded;
+        }
+        eventPublisher.publishEvent(new CatalogReloadedEvent(reloaded));
+        return reloaded;
+    }
+
+    private CatalogSnapshot load() {
+        return new CatalogSnapshot(
+                cuisineRepository.findAll(),
+                skillRepository.findAll(),
+                lessonRepository.findAll());
+    }
+}
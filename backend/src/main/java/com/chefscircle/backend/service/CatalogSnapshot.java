@@ -0,0 +1,190 @@
+package com.chefscircle.backend.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.chefscircle.backend.model.Cuisine;
+import com.chefscircle.backend.model.Lesson;
+import com.chefscircle.backend.model.Skill;
+
+/**
+ * Immutable, pre-indexed view of the Cuisine -> Skill -> Lesson catalog.
+ * All child lists are already sorted by orderIndex (id as tie breaker) so
+ * callers can hand them straight to the client.
+ */
+public final class CatalogSnapshot {
+
+    private static final Comparator<Skill> SKILL_ORDER = Comparator
+            .comparing(Skill::getOrderIndex, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(Skill::getId);
+
+    private static final Comparator<Lesson> LESSON_ORDER = Comparator
+            .comparing(Lesson::getOrderIndex, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(Lesson::getId);
+
+    private static final LessonIdBitmap EMPTY_BITMAP = new LessonIdBitmap();
+
+    private final List<Cuisine> cuisines;
+    private final List<Skill> skills;
+    private final List<Lesson> lessons;
+    private final Map<Long, Cuisine> cuisinesById;
+    private final Map<Long, Skill> skillsById;
+    private final Map<Long, Lesson> lessonsById;
+    private final Map<Long, List<Skill>> skillsByCuisineId;
+    private final Map<Long, List<Lesson>> lessonsBySkillId;
+    private final Map<Long, Integer> lessonCountByCuisineId;
+    private final Map<Long, Long> successorByLessonId;
+    private final List<Long> entryLessonIds;
+    private final Map<Long, LessonIdBitmap> lessonBitmapBySkillId;
+    private final Map<Long, LessonIdBitmap> lessonBitmapByCuisineId;
+
+    CatalogSnapshot(List<Cuisine> cuisines, List<Skill> skills, List<Lesson> lessons) {
+        this.cuisines = sortedById(cuisines, Cuisine::getId);
+        this.skills = sortedById(skills, Skill::getId);
+        this.lessons = sortedById(lessons, Lesson::getId);
+
+        this.cuisinesById = indexById(this.cuisines, Cuisine::getId);
+        this.skillsById = indexById(this.skills, Skill::getId);
+        this.lessonsById = indexById(this.lessons, Lesson::getId);
+
+        this.skillsByCuisineId = groupSorted(this.skills, Skill::getCuisineId, SKILL_ORDER);
+        this.lessonsBySkillId = groupSorted(this.lessons, Lesson::getSkillId, LESSON_ORDER);
+
+        Map<Long, Integer> lessonCounts = new HashMap<>();
+        skillsByCuisineId.forEach((cuisineId, cuisineSkills) -> lessonCounts.put(cuisineId,
+                cuisineSkills.stream().mapToInt(skill -> getLessonsBySkill(skill.getId()).size()).sum()));
+        this.lessonCountByCuisineId = Map.copyOf(lessonCounts);
+
+        // Unlock order: lessons in orderIndex order within a skill, and each skill's first
+        // lesson after the previous skill's last one. The first lesson of a cuisine is open.
+        Map<Long, Long> successors = new HashMap<>();
+        List<Long> entries = new ArrayList<>();
+        for (Cuisine cuisine : this.cuisines) {
+            Long previous = null;
+            for (Skill skill : getSkillsByCuisine(cuisine.getId())) {
+                for (Lesson lesson : getLessonsBySkill(skill.getId())) {
+                    if (previous == null) {
+                        entries.add(lesson.getId());
+                    } else {
+                        successors.put(previous, lesson.getId());
+                    }
+                    previous = lesson.getId();
+                }
+            }
+        }
+        this.successorByLessonId = Map.copyOf(successors);
+        this.entryLessonIds = List.copyOf(entries);
+
+        // Read-only after construction, so safe to share for intersections with user bitmaps
+        Map<Long, LessonIdBitmap> bySkill = new HashMap<>();
+        lessonsBySkillId.forEach((skillId, skillLessons) ->
+                bySkill.put(skillId, LessonIdBitmap.of(skillLessons.stream().map(Lesson::getId).toList())));
+        Map<Long, LessonIdBitmap> byCuisine = new HashMap<>();
+        skillsByCuisineId.forEach((cuisineId, cuisineSkills) -> byCuisine.put(cuisineId, LessonIdBitmap.of(
+                cuisineSkills.stream().flatMap(skill -> getLessonsBySkill(skill.getId()).stream()).map(Lesson::getId).toList())));
+        this.lessonBitmapBySkillId = Map.copyOf(bySkill);
+        this.lessonBitmapByCuisineId = Map.copyOf(byCuisine);
+    }
+
+    public List<Cuisine> getCuisines() {
+        return cuisines;
+    }
+
+    public Optional<Cuisine> findCuisine(Long id) {
+        return Optional.ofNullable(cuisinesById.get(id));
+    }
+
+    public List<Skill> getSkills() {
+        return skills;
+    }
+
+    public Optional<Skill> findSkill(Long id) {
+        return Optional.ofNullable(skillsById.get(id));
+    }
+
+    public List<Skill> getSkillsByCuisine(Long cuisineId) {
+        return skillsByCuisineId.getOrDefault(cuisineId, List.of());
+    }
+
+    public List<Lesson> getLessons() {
+        return lessons;
+    }
+
+    public Optional<Lesson> findLesson(Long id) {
+        return Optional.ofNullable(lessonsById.get(id));
+    }
+
+    public List<Lesson> getLessonsBySkill(Long skillId) {
+        return lessonsBySkillId.getOrDefault(skillId, List.of());
+    }
+
+    /**
+     * Resolves lesson -> skill -> cuisine. Null if the lesson or its skill is unknown.
+     */
+    public Long findCuisineIdForLesson(Long lessonId) {
+        Lesson lesson = lessonsById.get(lessonId);
+        if (lesson == null || lesson.getSkillId() == null) {
+            return null;
+        }
+        Skill skill = skillsById.get(lesson.getSkillId());
+        return skill == null ? null : skill.getCuisineId();
+    }
+
+    public int countLessonsInCuisine(Long cuisineId) {
+        return lessonCountByCuisineId.getOrDefault(cuisineId, 0);
+    }
+
+    public LessonIdBitmap getLessonBitmapBySkill(Long skillId) {
+        return lessonBitmapBySkillId.getOrDefault(skillId, EMPTY_BITMAP);
+    }
+
+    public LessonIdBitmap getLessonBitmapByCuisine(Long cuisineId) {
+        return lessonBitmapByCuisineId.getOrDefault(cuisineId, EMPTY_BITMAP);
+    }
+
+    /**
+     * The lesson that completing {@code lessonId} unlocks, if any.
+     */
+    public Optional<Long> findSuccessor(Long lessonId) {
+        return Optional.ofNullable(successorByLessonId.get(lessonId));
+    }
+
+    /**
+     * The first lesson of every cuisine; these are open without any completions.
+     */
+    public List<Long> getEntryLessonIds() {
+        return entryLessonIds;
+    }
+
+    private static <T> List<T> sortedById(List<T> items, Function<T, Long> id) {
+        List<T> sorted = new ArrayList<>(items);
+        sorted.sort(Comparator.comparing(id));
+        return List.copyOf(sorted);
+    }
+
+    private static <T> Map<Long, T> indexById(List<T> items, Function<T, Long> id) {
+        return Map.copyOf(items.stream().collect(Collectors.toMap(id, Function.identity())));
+    }
+
+    private static <T> Map<Long, List<T>> groupSorted(List<T> items, Function<T, Long> parentId, Comparator<T> order) {
+        Map<Long, List<T>> grouped = new HashMap<>();
+        for (T item : items) {
+            Long parent = parentId.apply(item);
+            if (parent != null) {
+                grouped.computeIfAbsent(parent, k -> new ArrayList<>()).add(item);
+            }
+        }
+        Map<Long, List<T>> result = new HashMap<>();
+        grouped.forEach((parent, children) -> {
+            children.sort(order);
+            result.put(parent, List.copyOf(children));
+        });
+        return Map.copyOf(result);
+    }
+}
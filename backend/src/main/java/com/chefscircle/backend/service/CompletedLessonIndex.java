@@ -0,0 +1,171 @@
+package com.chefscircle.backend.service;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.chefscircle.backend.model.UserProgress;
+import com.chefscircle.backend.repository.UserProgressRepository;
+
+/**
+ * Answers "has user X completed lesson Y" and "how many lessons of this skill or
+ * cuisine has X completed" from a per-user {@link LessonIdBitmap} instead of loading
+ * progress rows. Bitmaps are built lazily from the completed lesson ids, kept in a
+ * bounded LRU, and patched in place once the transaction that changed a row commits.
+ */
+@Service
+public class CompletedLessonIndex {
+
+    private final UserProgressRepository userProgressRepository;
+    private final CatalogService catalogService;
+
+    private final Map<Long, LessonIdBitmap> bitmapsByUser;
+    // Bumped on every committed change so a load that raced with a write is not cached
+    private final AtomicLong changes = new AtomicLong();
+
+    public CompletedLessonIndex(UserProgressRepository userProgressRepository,
+                                CatalogService catalogService,
+                                @Value("${chefscircle.progress.completed-cache-size:10000}") int cacheSize) {
+        this.userProgressRepository = userProgressRepository;
+        this.catalogService = catalogService;
+        this.bitmapsByUser = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, LessonIdBitmap> eldest) {
+                return size() > cacheSize;
+            }
+        });
+    }
+
+    public boolean isCompleted(Long userId, Long lessonId) {
+        LessonIdBitmap bitmap = bitmapFor(userId);
+        synchronized (bitmap) {
+            return bitmap.contains(lessonId);
+        }
+    }
+
+    public int countCompleted(Long userId) {
+        LessonIdBitmap bitmap = bitmapFor(userId);
+        synchronized (bitmap) {
+            return bitmap.cardinality();
+        }
+    }
+
+    public int countCompletedInSkill(Long userId, Long skillId) {
+        return countIntersection(userId, catalogService.getSnapshot().getLessonBitmapBySkill(skillId));
+    }
+
+    public int countCompletedInCuisine(Long userId, Long cuisineId) {
+        return countIntersection(userId, catalogService.getSnapshot().getLessonBitmapByCuisine(cuisineId));
+    }
+
+    /**
+     * Completed lesson ids in ascending order.
+     */
+    public long[] getCompletedLessonIds(Long userId) {
+        LessonIdBitmap bitmap = bitmapFor(userId);
+        synchronized (bitmap) {
+            return bitmap.toArray();
+        }
+    }
+
+    /**
+     * Applies status transitions once the surrounding transaction commits.
+     *
+     * @param completed rows that moved to completed
+     * @param uncompleted rows that moved away from completed
+     */
+    public void recordTransitions(Collection<UserProgress> completed, Collection<UserProgress> uncompleted) {
+        if (completed.isEmpty() && uncompleted.isEmpty()) {
+            return;
+        }
+        List<UserProgress> added = List.copyOf(completed);
+        List<UserProgress> removed = List.copyOf(uncompleted);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            boolean firstInTransaction = !TransactionSynchronizationManager.hasResource(this);
+            if (firstInTransaction) {
+                TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+            }
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(added, removed);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    if (firstInTransaction) {
+                        TransactionSynchronizationManager.unbindResourceIfPossible(CompletedLessonIndex.this);
+                    }
+                }
+            });
+        } else {
+            apply(added, removed);
+        }
+    }
+
+    public void recordCompleted(Long userId, Long lessonId) {
+        recordTransitions(List.of(new UserProgress(userId, lessonId, "completed")), List.of());
+    }
+
+    public void recordUncompleted(Long userId, Long lessonId) {
+        recordTransitions(List.of(), List.of(new UserProgress(userId, lessonId, null)));
+    }
+
+    public void evict(Long userId) {
+        changes.incrementAndGet();
+        bitmapsByUser.remove(userId);
+    }
+
+    private void apply(List<UserProgress> added, List<UserProgress> removed) {
+        changes.incrementAndGet();
+        added.forEach(row -> patch(row.getUserId(), row.getLessonId(), true));
+        removed.forEach(row -> patch(row.getUserId(), row.getLessonId(), false));
+    }
+
+    private void patch(Long userId, Long lessonId, boolean completed) {
+        LessonIdBitmap bitmap = bitmapsByUser.get(userId);
+        if (bitmap == null) {
+            return;
+        }
+        synchronized (bitmap) {
+            if (completed) {
+                bitmap.add(lessonId);
+            } else {
+                bitmap.remove(lessonId);
+            }
+        }
+    }
+
+    private int countIntersection(Long userId, LessonIdBitmap lessons) {
+        LessonIdBitmap bitmap = bitmapFor(userId);
+        synchronized (bitmap) {
+            return bitmap.andCardinality(lessons);
+        }
+    }
+
+    private LessonIdBitmap bitmapFor(Long userId) {
+        LessonIdBitmap bitmap = bitmapsByUser.get(userId);
+        if (bitmap != null) {
+            return bitmap;
+        }
+        long seenChanges = changes.get();
+        bitmap = LessonIdBitmap.of(userProgressRepository.findCompletedLessonIds(userId));
+        // A transaction that changed completions sees them before they commit; only cache committed state
+        boolean uncommittedVisible = TransactionSynchronizationManager.hasResource(this);
+        if (!uncommittedVisible && changes.get() == seenChanges) {
+            LessonIdBitmap raced = bitmapsByUser.putIfAbsent(userId, bitmap);
+            if (raced != null) {
+                return raced;
+            }
+        }
+        return bitmap;
+    }
+}
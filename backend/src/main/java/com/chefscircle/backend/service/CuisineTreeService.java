@@ -0,0 +1,72 @@
+package com.chefscircle.backend.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+
+import com.chefscircle.backend.model.Cuisine;
+import com.chefscircle.backend.model.CuisineTreeDTO;
+import com.chefscircle.backend.model.CuisineTreeDTO.LessonNode;
+import com.chefscircle.backend.model.CuisineTreeDTO.SkillNode;
+import com.chefscircle.backend.model.Lesson;
+import com.chefscircle.backend.model.Skill;
+import com.chefscircle.backend.model.UserProgress;
+import com.chefscircle.backend.repository.UserProgressRepository;
+
+/**
+ * Builds the cuisine -> skills -> lessons tree from the catalog snapshot,
+ * optionally merging in one user's progress with a single query.
+ */
+@Service
+public class CuisineTreeService {
+
+    private final CatalogService catalogService;
+    private final UserProgressRepository userProgressRepository;
+
+    public CuisineTreeService(CatalogService catalogService, UserProgressRepository userProgressRepository) {
+        this.catalogService = catalogService;
+        this.userProgressRepository = userProgressRepository;
+    }
+
+    public Optional<CuisineTreeDTO> getTree(Long cuisineId, Long userId) {
+        CatalogSnapshot catalog = catalogService.getSnapshot();
+        Optional<Cuisine> cuisine = catalog.findCuisine(cuisineId);
+        if (cuisine.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<Skill> skills = catalog.getSkillsByCuisine(cuisineId);
+        List<Long> lessonIds = skills.stream()
+                .flatMap(skill -> catalog.getLessonsBySkill(skill.getId()).stream())
+                .map(Lesson::getId)
+                .toList();
+
+        Map<Long, UserProgress> progressByLesson = Map.of();
+        if (userId != null && !lessonIds.isEmpty()) {
+            progressByLesson = userProgressRepository.findByUserIdAndLessonIdIn(userId, lessonIds)
+                    .stream()
+                    .collect(Collectors.toMap(UserProgress::getLessonId, Function.identity(), (a, b) -> a));
+        }
+
+        List<SkillNode> skillNodes = new ArrayList<>(skills.size());
+        int completed = 0;
+        for (Skill skill : skills) {
+            List<LessonNode> lessonNodes = new ArrayList<>();
+            for (Lesson lesson : catalog.getLessonsBySkill(skill.getId())) {
+                UserProgress progress = progressByLesson.get(lesson.getId());
+                if (progress != null && "completed".equals(progress.getStatus())) {
+                    completed++;
+                }
+                lessonNodes.add(new LessonNode(lesson, progress));
+            }
+            skillNodes.add(new SkillNode(skill, lessonNodes));
+        }
+
+        return Optional.of(new CuisineTreeDTO(cuisine.get(), skillNodes, lessonIds.size(), completed));
+    }
+}
@@ -0,0 +1,160 @@
+package com.chefscircle.backend.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.chefscircle.backend.model.AchievementDTO;
+import com.chefscircle.backend.model.Cuisine;
+import com.chefscircle.backend.model.DashboardDTO;
+import com.chefscircle.backend.model.PageDTO;
+import com.chefscircle.backend.model.StreakDTO;
+import com.chefscircle.backend.model.User;
+import com.chefscircle.backend.model.UserProgress;
+import com.chefscircle.backend.repository.UserProgressRepository;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Builds the app-open dashboard by running each section's read on its own virtual
+ * thread. Every section has its own timeout and fails on its own, so the response
+ * takes as long as the slowest section (capped by the timeout) rather than the sum.
+ *
+ * <p>Section reads across all dashboards share a fixed number of permits, kept below
+ * the connection pool size, so slow dashboards cannot take every connection. Each read
+ * runs in a read-only transaction whose timeout becomes the statement's query timeout;
+ * a read that outlives its section is cancelled by the database and gives its
+ * connection back, rather than running on after the response has gone out.
+ */
+@Service
+public class DashboardService {
+
+    private final UserService userService;
+    private final UserProgressRepository userProgressRepository;
+    private final AchievementService achievementService;
+    private final FavoriteCuisineService favoriteCuisineService;
+    private final StreakService streakService;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore readPermits;
+    private final TransactionTemplate readTransaction;
+    private final long partTimeoutMs;
+
+    public DashboardService(UserService userService,
+                            UserProgressRepository userProgressRepository,
+                            AchievementService achievementService,
+                            FavoriteCuisineService favoriteCuisineService,
+                            StreakService streakService,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${chefscircle.dashboard.part-timeout-ms:2000}") long partTimeoutMs,
+                            @Value("${chefscircle.dashboard.max-concurrent-reads:6}") int maxConcurrentReads) {
+        this.userService = userService;
+        this.userProgressRepository = userProgressRepository;
+        this.achievementService = achievementService;
+        this.favoriteCuisineService = favoriteCuisineService;
+        this.streakService = streakService;
+        this.partTimeoutMs = partTimeoutMs;
+        this.readPermits = new Semaphore(maxConcurrentReads);
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        readTransaction.setReadOnly(true);
+        // Transaction timeouts are whole seconds; round up so a read is never cut before its section
+        readTransaction.setTimeout((int) Math.max(1, (partTimeoutMs + 999) / 1000));
+    }
+
+    /**
+     * @return the dashboard, or empty if the user does not exist
+     */
+    public Optional<DashboardDTO> getDashboard(Long userId) {
+        Part<Optional<User>> user = fetch("user", () -> userService.findUserById(userId));
+        // Only the first page; the client continues from nextCursor on the paged progress endpoint
+        Part<PageDTO<UserProgress>> progress = fetch("progress", () -> PageDTO.of(
+                userProgressRepository.findByUserIdAndIdGreaterThanOrderByIdAsc(userId, KeysetPaging.cursor(null),
+                        KeysetPaging.fetchLimit(KeysetPaging.DEFAULT_LIMIT)),
+                KeysetPaging.DEFAULT_LIMIT, UserProgress::getId, null));
+        Part<List<AchievementDTO>> achievements = fetch("achievements",
+                () -> achievementService.getAchievementsForUser(userId));
+        Part<List<Cuisine>> favorites = fetch("favoriteCuisines",
+                () -> favoriteCuisineService.listFavoriteCuisines(userId));
+        Part<StreakDTO> streak = fetch("streak", () -> streakService.getStreak(userId)
+                .orElse(new StreakDTO(userId, 0, 0, null, false)));
+
+        // A failed user read degrades like any other section; only a clean miss is a 404
+        Optional<User> found = user.join();
+        if (found != null && found.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<String> unavailable = new ArrayList<>();
+        DashboardDTO dashboard = new DashboardDTO(
+                found == null ? null : found.get(),
+                progress.join(),
+                achievements.join(),
+                favorites.join(),
+                streak.join(),
+                unavailable);
+        for (Part<?> part : List.of(user, progress, achievements, favorites, streak)) {
+            if (part.failed()) {
+                unavailable.add(part.name());
+            }
+        }
+        return Optional.of(dashboard);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> Part<T> fetch(String name, Supplier<T> read) {
+        CompletableFuture<T> future = CompletableFuture.supplyAsync(() -> boundedRead(name, read), executor)
+                .orTimeout(partTimeoutMs, TimeUnit.MILLISECONDS);
+        return new Part<>(name, future);
+    }
+
+    private <T> T boundedRead(String name, Supplier<T> read) {
+        try {
+            if (!readPermits.tryAcquire(partTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new IllegalStateException("No read permit for dashboard section " + name);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted waiting for dashboard section " + name, e);
+        }
+        try {
+            return readTransaction.execute(status -> read.get());
+        } finally {
+            readPermits.release();
+        }
+    }
+
+    /**
+     * One dashboard section. {@link #join} returns null if the read failed or timed out.
+     */
+    private record Part<T>(String name, CompletableFuture<T> future) {
+
+        T join() {
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+                System.out.println("Dashboard section " + name + " unavailable: " + e.getCause());
+                return null;
+            }
+        }
+
+        boolean failed() {
+            return future.isCompletedExceptionally();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.chefscircle.backend.service;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.stereotype.Service;
+
+import com.chefscircle.backend.model.Cuisine;
+import com.chefscircle.backend.repository.UserFavoriteCuisineRepository;
+
+@Service
+public class FavoriteCuisineService {
+
+    private final UserFavoriteCuisineRepository favoritesRepository;
+    private final CatalogService catalogService;
+
+    public FavoriteCuisineService(UserFavoriteCuisineRepository favoritesRepository,
+                                  CatalogService catalogService) {
+        this.favoritesRepository = favoritesRepository;
+        this.catalogService = catalogService;
+    }
+
+    /**
+     * Resolves the user's favorite cuisine ids against the catalog snapshot; unknown ids are skipped.
+     */
+    public List<Cuisine> listFavoriteCuisines(Long userId) {
+        CatalogSnapshot catalog = catalogService.getSnapshot();
+        return favoritesRepository.findByIdUserId(userId)
+            .stream()
+            .map(f -> catalog.findCuisine(f.getId().getCuisineId()))
+            .flatMap(Optional::stream)
+            .toList();
+    }
+}
@@ -0,0 +1,134 @@
+package com.chefscircle.backend.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.chefscircle.backend.repository.LessonAggregateRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Keeps the /api/lessons/{id}/full response for each lesson as ready-to-send
+ * bytes (plain and gzipped) together with a strong, content-derived ETag.
+ * Entries are built on first request and dropped when the catalog reloads.
+ */
+@Service
+public class FullLessonCache {
+
+    private final LessonAggregateRepository lessonAggregateRepository;
+    private final ObjectMapper objectMapper;
+
+    private final Map<Long, Payload> payloads = new ConcurrentHashMap<>();
+
+    public FullLessonCache(LessonAggregateRepository lessonAggregateRepository,
+                           ObjectMapper objectMapper) {
+        this.lessonAggregateRepository = lessonAggregateRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Returns the cached payload, building it on a miss. Empty if the lesson does not exist.
+     */
+    public Optional<Payload> get(Long lessonId) {
+        return Optional.ofNullable(payloads.computeIfAbsent(lessonId, this::build));
+    }
+
+    public void invalidate(Long lessonId) {
+        payloads.remove(lessonId);
+    }
+
+    @EventListener(CatalogReloadedEvent.class)
+    public void invalidateAll() {
+        payloads.clear();
+    }
+
+    private Payload build(Long lessonId) {
+        return lessonAggregateRepository.findFullLesson(lessonId)
+                .map(fullLesson -> Payload.of(serialize(fullLesson)))
+                .orElse(null);
+    }
+
+    private byte[] serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize lesson payload", e);
+        }
+    }
+
+    /**
+     * Immutable pre-rendered response body.
+     */
+    public static final class Payload {
+
+        private final String etag;
+        private final byte[] json;
+        private final byte[] gzippedJson;
+
+        private Payload(String etag, byte[] json, byte[] gzippedJson) {
+            this.etag = etag;
+            this.json = json;
+            this.gzippedJson = gzippedJson;
+        }
+
+        static Payload of(byte[] json) {
+            return new Payload(etagFor(json), json, gzip(json));
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+
+        public byte[] getJson() {
+            return json;
+        }
+
+        public byte[] getGzippedJson() {
+            return gzippedJson;
+        }
+
+        /**
+         * Evaluates an If-None-Match header value against this payload's ETag.
+         */
+        public boolean matches(String ifNoneMatch) {
+            if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+                return false;
+            }
+            return Arrays.stream(ifNoneMatch.split(","))
+                    .map(String::trim)
+                    .map(tag -> tag.startsWith("W/") ? tag.substring(2) : tag)
+                    .anyMatch(tag -> tag.equals("*") || tag.equals(etag));
+        }
+
+        private static String etagFor(byte[] json) {
+            try {
+                byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+                return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 not available", e);
+            }
+        }
+
+        private static byte[] gzip(byte[] data) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, data.length / 4));
+            try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+                gzip.write(data);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return out.toByteArray();
+        }
+    }
+}
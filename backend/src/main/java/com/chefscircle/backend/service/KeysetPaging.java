@@ -0,0 +1,52 @@
+package com.chefscircle.backend.service;
+
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.data.domain.Limit;
+
+/**
+ * Shared limits and helpers for the id-keyed list endpoints.
+ */
+public final class KeysetPaging {
+
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 200;
+
+    private KeysetPaging() {
+    }
+
+    public static int clampLimit(int limit) {
+        return Math.max(1, Math.min(MAX_LIMIT, limit));
+    }
+
+    public static long cursor(Long after) {
+        return after == null ? 0L : after;
+    }
+
+    /**
+     * Query limit for a page: one extra row tells whether another page exists.
+     */
+    public static Limit fetchLimit(int limit) {
+        return Limit.of(limit + 1);
+    }
+
+    /**
+     * Slices an id-sorted in-memory list the same way the database queries do,
+     * returning up to {@code limit + 1} items with id greater than {@code after}.
+     */
+    public static <T> List<T> sliceAfter(List<T> sortedById, Function<T, Long> idOf, Long after, int limit) {
+        long afterId = cursor(after);
+        int low = 0;
+        int high = sortedById.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (idOf.apply(sortedById.get(mid)) <= afterId) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return sortedById.subList(low, Math.min(sortedById.size(), low + limit + 1));
+    }
+}
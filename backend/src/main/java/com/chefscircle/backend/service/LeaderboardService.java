@@ -0,0 +1,152 @@
+package com.chefscircle.backend.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.chefscircle.backend.model.LeaderboardEntryDTO;
+import com.chefscircle.backend.model.LeaderboardPositionDTO;
+import com.chefscircle.backend.model.User;
+import com.chefscircle.backend.repository.UserRepository;
+
+/**
+ * XP leaderboard backed by an in-memory {@link XpRankIndex}.
+ * The index is rebuilt from users.xp at startup and then kept current by the
+ * code paths that change XP or add/remove users, so ranking never needs a table sort.
+ */
+@Service
+public class LeaderboardService {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UserRepository userRepository;
+
+    private volatile XpRankIndex index = new XpRankIndex();
+    // Set while rebuild() loads a new index, so writes landing during the load reach it too
+    private volatile XpRankIndex rebuilding;
+    private final Set<Long> removedDuringRebuild = ConcurrentHashMap.newKeySet();
+
+    public LeaderboardService(JdbcTemplate jdbcTemplate, UserRepository userRepository) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.userRepository = userRepository;
+    }
+
+    /**
+     * Reloads the index from users.xp. Writes recorded while the SELECT runs go to both
+     * indexes; rows from the SELECT never replace them, and users removed during the load
+     * are removed again before the new index goes live.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        XpRankIndex rebuilt = new XpRankIndex();
+        removedDuringRebuild.clear();
+        rebuilding = rebuilt;
+        try {
+            jdbcTemplate.query("SELECT id, xp FROM users",
+                    rs -> { rebuilt.putIfAbsent(rs.getLong("id"), rs.getInt("xp")); });
+            removedDuringRebuild.forEach(rebuilt::remove);
+            index = rebuilt;
+        } finally {
+            rebuilding = null;
+        }
+    }
+
+    /**
+     * Records a user's new XP total once the current transaction (if any) commits.
+     */
+    public void recordXp(Long userId, int xp) {
+        afterCommit(() -> {
+            XpRankIndex pending = rebuilding;
+            index.put(userId, xp);
+            if (pending != null) {
+                pending.put(userId, xp);
+            }
+        });
+    }
+
+    public void removeUser(Long userId) {
+        afterCommit(() -> {
+            XpRankIndex pending = rebuilding;
+            index.remove(userId);
+            if (pending != null) {
+                removedDuringRebuild.add(userId);
+                pending.remove(userId);
+            }
+        });
+    }
+
+    /**
+     * Current XP for a user, doubling as a cached existence check: every user is in the
+     * index, so only ids it has never seen (e.g. rows inserted outside the app) hit the database.
+     */
+    public Optional<Integer> findXp(Long userId) {
+        Integer xp = index.xpOf(userId);
+        if (xp != null) {
+            return Optional.of(xp);
+        }
+        XpRankIndex pending = rebuilding;
+        Optional<Integer> stored = userRepository.findXpById(userId);
+        stored.ifPresent(value -> {
+            index.putIfAbsent(userId, value);
+            if (pending != null) {
+                pending.putIfAbsent(userId, value);
+            }
+        });
+        return stored;
+    }
+
+    public List<LeaderboardEntryDTO> top(int limit) {
+        return toDtos(index.range(1, limit));
+    }
+
+    /**
+     * Returns the user's rank plus the entries {@code radius} places above and below them,
+     * or empty if the user is not on the board (unknown, or removed by a concurrent delete).
+     */
+    public Optional<LeaderboardPositionDTO> positionOf(Long userId, int radius) {
+        XpRankIndex.Position position = index.positionOf(userId, radius);
+        if (position == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new LeaderboardPositionDTO(position.rank(), position.xp(),
+                position.totalUsers(), toDtos(position.window())));
+    }
+
+    private List<LeaderboardEntryDTO> toDtos(List<XpRankIndex.Entry> entries) {
+        Map<Long, User> users = userRepository.findAllById(entries.stream().map(XpRankIndex.Entry::userId).toList())
+                .stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        return entries.stream()
+                .map(entry -> {
+                    User user = users.get(entry.userId());
+                    return new LeaderboardEntryDTO(entry.rank(), entry.userId(),
+                            user == null ? null : user.getUsername(),
+                            user == null ? null : user.getName(),
+                            entry.xp());
+                })
+                .toList();
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
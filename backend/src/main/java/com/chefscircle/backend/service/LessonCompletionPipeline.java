@@ -0,0 +1,185 @@
+package com.chefscircle.backend.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.chefscircle.backend.model.LessonCompletionEvent;
+import com.chefscircle.backend.model.UserProgress;
+import com.chefscircle.backend.repository.LessonCompletionEventRepository;
+import com.chefscircle.backend.repository.ProgressBatchRepository;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Moves lesson-completion side effects off the request thread.
+ *
+ * <p>{@link #publish} writes a {@link LessonCompletionEvent} outbox row inside the
+ * caller's transaction and, once that commits, hands the id to a bounded in-memory
+ * queue. A single worker drains the queue in batches, groups events by user and lets
+ * {@link LessonCompletionService} apply each user's batch in one transaction.
+ *
+ * <p>The queue is only a fast path. If it is full, or the process stops before the
+ * worker gets to an event, the row stays unprocessed and the periodic sweep (which
+ * also runs at startup) picks it up again.
+ */
+@Service
+public class LessonCompletionPipeline {
+
+    private final LessonCompletionEventRepository eventRepository;
+    private final LessonCompletionService completionService;
+    private final ProgressBatchRepository progressBatchRepository;
+
+    private final BlockingQueue<QueuedCompletion> queue;
+    private final int batchSize;
+    private final long sweepIntervalMs;
+
+    private volatile boolean running;
+    private Thread worker;
+    private long lastSweep;
+
+    public LessonCompletionPipeline(LessonCompletionEventRepository eventRepository,
+                                    LessonCompletionService completionService,
+                                    ProgressBatchRepository progressBatchRepository,
+                                    @Value("${chefscircle.completion.queue-capacity:10000}") int queueCapacity,
+                                    @Value("${chefscircle.completion.batch-size:200}") int batchSize,
+                                    @Value("${chefscircle.completion.sweep-interval-ms:30000}") long sweepIntervalMs) {
+        this.eventRepository = eventRepository;
+        this.completionService = completionService;
+        this.progressBatchRepository = progressBatchRepository;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.sweepIntervalMs = sweepIntervalMs;
+    }
+
+    /**
+     * Records a completion. Must be called inside the transaction that wrote the progress row.
+     */
+    public void publish(Long userId, Long lessonId) {
+        LessonCompletionEvent event = eventRepository.save(new LessonCompletionEvent(userId, lessonId));
+        enqueueAfterCommit(List.of(new QueuedCompletion(event.getId(), userId)));
+    }
+
+    /**
+     * Batch variant of {@link #publish} for bulk syncs: all outbox rows go in with one JDBC batch.
+     */
+    public void publishAll(List<UserProgress> completedRows) {
+        List<Long> eventIds = progressBatchRepository.insertCompletionEvents(completedRows, LocalDateTime.now());
+        List<QueuedCompletion> queued = new ArrayList<>(eventIds.size());
+        for (int i = 0; i < eventIds.size(); i++) {
+            queued.add(new QueuedCompletion(eventIds.get(i), completedRows.get(i).getUserId()));
+        }
+        enqueueAfterCommit(queued);
+    }
+
+    private void enqueueAfterCommit(List<QueuedCompletion> completions) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    completions.forEach(queue::offer);
+                }
+            });
+        } else {
+            completions.forEach(queue::offer);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        worker = new Thread(this::runWorker, "lesson-completion-worker");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public synchronized void stop() throws InterruptedException {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+            worker.join(TimeUnit.SECONDS.toMillis(10));
+        }
+    }
+
+    private void runWorker() {
+        sweepPending();
+        while (running) {
+            try {
+                QueuedCompletion first = queue.poll(sweepIntervalMs, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    List<QueuedCompletion> batch = new ArrayList<>(batchSize);
+                    batch.add(first);
+                    queue.drainTo(batch, batchSize - 1);
+                    processBatch(batch);
+                }
+                if (System.currentTimeMillis() - lastSweep >= sweepIntervalMs) {
+                    sweepPending();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                System.out.println("Lesson completion worker error: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Re-processes outbox rows that never made it through the queue.
+     */
+    private void sweepPending() {
+        lastSweep = System.currentTimeMillis();
+        try {
+            long afterId = 0L;
+            List<LessonCompletionEvent> pending;
+            do {
+                pending = eventRepository.findByProcessedAtIsNullAndIdGreaterThanOrderByIdAsc(
+                        afterId, Limit.of(batchSize));
+                processBatch(pending.stream()
+                        .map(event -> new QueuedCompletion(event.getId(), event.getUserId()))
+                        .toList());
+                if (!pending.isEmpty()) {
+                    afterId = pending.get(pending.size() - 1).getId();
+                }
+            } while (running && pending.size() == batchSize);
+        } catch (RuntimeException e) {
+            System.out.println("Lesson completion sweep failed: " + e.getMessage());
+        }
+    }
+
+    private void processBatch(List<QueuedCompletion> batch) {
+        // Coalesce per user so several completions cost one XP write and one achievement check
+        Map<Long, List<Long>> eventIdsByUser = new LinkedHashMap<>();
+        for (QueuedCompletion completion : batch) {
+            eventIdsByUser.computeIfAbsent(completion.userId(), k -> new ArrayList<>()).add(completion.eventId());
+        }
+        eventIdsByUser.forEach((userId, eventIds) -> {
+            try {
+                completionService.applyCompletions(userId, eventIds);
+            } catch (RuntimeException e) {
+                // Leave this user's events pending; the next sweep retries them
+                System.out.println("Applying completions for user " + userId + " failed: " + e.getMessage());
+            }
+        });
+    }
+
+    private record QueuedCompletion(Long eventId, Long userId) {
+    }
+}
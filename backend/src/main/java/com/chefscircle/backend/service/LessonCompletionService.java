@@ -0,0 +1,96 @@
+package com.chefscircle.backend.service;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.chefscircle.backend.model.LessonCompletionEvent;
+import com.chefscircle.backend.repository.LessonCompletionEventRepository;
+import com.chefscircle.backend.repository.UserRepository;
+
+/**
+ * Applies the side effects of lesson completions (XP, achievements, streaks) for one user.
+ * Called by {@link LessonCompletionPipeline} off the request thread. The pending
+ * events are locked, their XP summed into a single atomic increment and the events
+ * marked processed in the same transaction, so each completion is counted exactly once.
+ */
+@Service
+public class LessonCompletionService {
+
+    private final LessonCompletionEventRepository eventRepository;
+    private final UserRepository userRepository;
+    private final CatalogService catalogService;
+    private final AchievementRuleEngine achievementRuleEngine;
+    private final LeaderboardService leaderboardService;
+    private final StreakService streakService;
+
+    public LessonCompletionService(LessonCompletionEventRepository eventRepository,
+                                   UserRepository userRepository,
+                                   CatalogService catalogService,
+                                   AchievementRuleEngine achievementRuleEngine,
+                                   LeaderboardService leaderboardService,
+                                   StreakService streakService) {
+        this.eventRepository = eventRepository;
+        this.userRepository = userRepository;
+        this.catalogService = catalogService;
+        this.achievementRuleEngine = achievementRuleEngine;
+        this.leaderboardService = leaderboardService;
+        this.streakService = streakService;
+    }
+
+    /**
+     * Applies every still-pending event in {@code eventIds} for the given user.
+     * Several completions are coalesced into one XP increment and one achievement check.
+     */
+    @Transactional
+    public void applyCompletions(Long userId, Collection<Long> eventIds) {
+        List<LessonCompletionEvent> events = eventRepository.findByIdInAndProcessedAtIsNull(eventIds);
+        if (events.isEmpty()) {
+            return;
+        }
+
+        CatalogSnapshot catalog = catalogService.getSnapshot();
+        int xpEarned = events.stream()
+                .map(event -> catalog.findLesson(event.getLessonId()))
+                .flatMap(Optional::stream)
+                .mapToInt(lesson -> lesson.getXpReward() == null ? 0 : lesson.getXpReward())
+                .sum();
+
+        Integer newXp = awardXp(userId, xpEarned);
+        achievementRuleEngine.onLessonsCompleted(userId,
+                events.stream().map(LessonCompletionEvent::getLessonId).toList());
+        if (newXp != null) {
+            leaderboardService.recordXp(userId, newXp);
+            achievementRuleEngine.onXpChanged(userId, newXp);
+        }
+
+        // Completions count as activity on the day they happened, not the day they were processed
+        streakService.recordActivity(userId, events.stream()
+                .map(LessonCompletionEvent::getCreatedAt)
+                .filter(Objects::nonNull)
+                .map(LocalDateTime::toLocalDate)
+                .distinct()
+                .toList());
+
+        eventRepository.markProcessed(
+                events.stream().map(LessonCompletionEvent::getId).toList(), LocalDateTime.now());
+    }
+
+    /**
+     * @return the user's XP after the award, or null if nothing changed
+     */
+    private Integer awardXp(Long userId, int xpEarned) {
+        if (xpEarned == 0) {
+            return null;
+        }
+        if (userRepository.incrementXp(userId, xpEarned) == 0) {
+            return null;
+        }
+        return userRepository.findXpById(userId).orElse(null);
+    }
+}
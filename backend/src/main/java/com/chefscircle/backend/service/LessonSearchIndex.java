@@ -0,0 +1,280 @@
+package com.chefscircle.backend.service;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Immutable inverted index over lesson documents, ranked with BM25.
+ *
+ * <p>Terms are kept in one sorted array so a prefix maps to a contiguous range found
+ * by binary search. Each term's postings are a single byte array of varint pairs
+ * (gap to the previous document ordinal, field-weighted term frequency), which keeps
+ * the whole index a few bytes per posting.
+ *
+ * <p>Field weights are folded into the term frequency and the document length
+ * (a lesson name counts three times as much as body text), which is the usual
+ * BM25F simplification. Weights are in quarter units so postings stay integers.
+ */
+public final class LessonSearchIndex {
+
+    public static final int WEIGHT_NAME = 12;
+    public static final int WEIGHT_DESCRIPTION = 6;
+    public static final int WEIGHT_SECTION_TITLE = 6;
+    public static final int WEIGHT_CONTENT = 4;
+    public static final int WEIGHT_QUESTION = 3;
+
+    private static final float WEIGHT_UNIT = 4f;
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    private static final float PREFIX_FACTOR = 0.7f;
+    private static final int MAX_PREFIX_EXPANSIONS = 64;
+    private static final int MAX_QUERY_TERMS = 16;
+
+    private static final LessonSearchIndex EMPTY = build(List.of());
+
+    private final long[] lessonIds;
+    private final float[] lengthNorms;
+    private final String[] terms;
+    private final int[] docFreqs;
+    private final byte[][] postings;
+
+    private LessonSearchIndex(long[] lessonIds, float[] lengthNorms, String[] terms,
+                              int[] docFreqs, byte[][] postings) {
+        this.lessonIds = lessonIds;
+        this.lengthNorms = lengthNorms;
+        this.terms = terms;
+        this.docFreqs = docFreqs;
+        this.postings = postings;
+    }
+
+    public static LessonSearchIndex empty() {
+        return EMPTY;
+    }
+
+    public static LessonSearchIndex build(Collection<Document> documents) {
+        List<Document> ordered = new ArrayList<>(documents);
+        ordered.sort(Comparator.comparingLong(Document::lessonId));
+
+        int n = ordered.size();
+        long[] lessonIds = new long[n];
+        float[] lengths = new float[n];
+        double totalLength = 0;
+        // Ordinals are visited in ascending order, so every term's postings come out sorted
+        Map<String, PostingsWriter> writers = new TreeMap<>();
+        for (int ordinal = 0; ordinal < n; ordinal++) {
+            Document document = ordered.get(ordinal);
+            lessonIds[ordinal] = document.lessonId();
+            lengths[ordinal] = document.length() / WEIGHT_UNIT;
+            totalLength += lengths[ordinal];
+            for (Map.Entry<String, Integer> entry : document.termFrequencies().entrySet()) {
+                writers.computeIfAbsent(entry.getKey(), k -> new PostingsWriter()).add(ordinal, entry.getValue());
+            }
+        }
+
+        // Precompute the length part of the BM25 denominator per document
+        float averageLength = n == 0 ? 1f : (float) Math.max(totalLength / n, 1e-6);
+        float[] lengthNorms = new float[n];
+        for (int i = 0; i < n; i++) {
+            lengthNorms[i] = K1 * (1 - B + B * lengths[i] / averageLength);
+        }
+
+        String[] terms = new String[writers.size()];
+        int[] docFreqs = new int[writers.size()];
+        byte[][] postings = new byte[writers.size()][];
+        int t = 0;
+        for (Map.Entry<String, PostingsWriter> entry : writers.entrySet()) {
+            terms[t] = entry.getKey();
+            docFreqs[t] = entry.getValue().count;
+            postings[t] = entry.getValue().bytes.toByteArray();
+            t++;
+        }
+        return new LessonSearchIndex(lessonIds, lengthNorms, terms, docFreqs, postings);
+    }
+
+    public int size() {
+        return lessonIds.length;
+    }
+
+    public int termCount() {
+        return terms.length;
+    }
+
+    /**
+     * Ranks lessons for a free-text query. Every query term but the last must match a
+     * whole indexed term; the last one also matches as a prefix, so results show up
+     * while the user is typing. Lessons matching more of the query terms rank higher.
+     */
+    public List<Hit> search(String query, int limit) {
+        List<String> queryTerms = SearchTokenizer.tokenizeQuery(query);
+        if (queryTerms.size() > MAX_QUERY_TERMS) {
+            queryTerms = queryTerms.subList(0, MAX_QUERY_TERMS);
+        }
+        int n = lessonIds.length;
+        if (queryTerms.isEmpty() || n == 0 || limit <= 0) {
+            return List.of();
+        }
+
+        float[] scores = new float[n];
+        int[] matched = new int[n];
+        float[] termScores = new float[n];
+        int[] touched = new int[n];
+
+        for (int q = 0; q < queryTerms.size(); q++) {
+            String queryTerm = queryTerms.get(q);
+            int touchedCount = 0;
+            int from;
+            int to;
+            if (q == queryTerms.size() - 1) {
+                from = lowerBound(queryTerm);
+                to = Math.min(prefixEnd(queryTerm, from), from + MAX_PREFIX_EXPANSIONS);
+            } else {
+                from = Arrays.binarySearch(terms, queryTerm);
+                to = from + 1;
+                if (from < 0) {
+                    continue;
+                }
+            }
+
+            // A document's score for this query term is its best match among the expansions
+            for (int t = from; t < to; t++) {
+                float factor = terms[t].length() == queryTerm.length() ? 1f : PREFIX_FACTOR;
+                float idf = idf(docFreqs[t], n);
+                byte[] bytes = postings[t];
+                int pos = 0;
+                int ordinal = 0;
+                while (pos < bytes.length) {
+                    int gap = 0;
+                    int shift = 0;
+                    byte b;
+                    do {
+                        b = bytes[pos++];
+                        gap |= (b & 0x7f) << shift;
+                        shift += 7;
+                    } while (b < 0);
+                    int weightedTf = 0;
+                    shift = 0;
+                    do {
+                        b = bytes[pos++];
+                        weightedTf |= (b & 0x7f) << shift;
+                        shift += 7;
+                    } while (b < 0);
+                    ordinal += gap;
+
+                    float tf = weightedTf / WEIGHT_UNIT;
+                    float score = factor * idf * tf * (K1 + 1) / (tf + lengthNorms[ordinal]);
+                    if (termScores[ordinal] == 0f) {
+                        touched[touchedCount++] = ordinal;
+                    }
+                    if (score > termScores[ordinal]) {
+                        termScores[ordinal] = score;
+                    }
+                }
+            }
+
+            for (int i = 0; i < touchedCount; i++) {
+                int ordinal = touched[i];
+                scores[ordinal] += termScores[ordinal];
+                matched[ordinal]++;
+                termScores[ordinal] = 0f;
+            }
+        }
+
+        List<Hit> hits = new ArrayList<>();
+        int termCount = queryTerms.size();
+        for (int ordinal = 0; ordinal < n; ordinal++) {
+            if (matched[ordinal] > 0) {
+                hits.add(new Hit(lessonIds[ordinal], scores[ordinal] * matched[ordinal] / termCount));
+            }
+        }
+        hits.sort(Comparator.comparingDouble(Hit::score).reversed().thenComparingLong(Hit::lessonId));
+        return hits.size() > limit ? List.copyOf(hits.subList(0, limit)) : hits;
+    }
+
+    private static float idf(int docFreq, int docCount) {
+        return (float) Math.log(1 + (docCount - docFreq + 0.5) / (docFreq + 0.5));
+    }
+
+    private int lowerBound(String term) {
+        int index = Arrays.binarySearch(terms, term);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    private int prefixEnd(String prefix, int from) {
+        int low = from;
+        int high = terms.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (terms[mid].startsWith(prefix)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    public record Hit(long lessonId, float score) {
+    }
+
+    /**
+     * One lesson's terms with field-weighted frequencies, and its weighted length.
+     */
+    public record Document(long lessonId, Map<String, Integer> termFrequencies, int length) {
+
+        public static Builder builder(long lessonId) {
+            return new Builder(lessonId);
+        }
+
+        public static final class Builder {
+
+            private final long lessonId;
+            private final Map<String, Integer> termFrequencies = new HashMap<>();
+            private int length;
+
+            private Builder(long lessonId) {
+                this.lessonId = lessonId;
+            }
+
+            public Builder add(String text, int weight) {
+                for (String term : SearchTokenizer.tokenize(text)) {
+                    termFrequencies.merge(term, weight, Integer::sum);
+                    length += weight;
+                }
+                return this;
+            }
+
+            public Document build() {
+                return new Document(lessonId, Map.copyOf(termFrequencies), length);
+            }
+        }
+    }
+
+    private static final class PostingsWriter {
+
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private int lastOrdinal;
+        private int count;
+
+        void add(int ordinal, int weightedTf) {
+            writeVarint(ordinal - lastOrdinal);
+            writeVarint(weightedTf);
+            lastOrdinal = ordinal;
+            count++;
+        }
+
+        private void writeVarint(int value) {
+            while ((value & ~0x7f) != 0) {
+                bytes.write((value & 0x7f) | 0x80);
+                value >>>= 7;
+            }
+            bytes.write(value);
+        }
+    }
+}
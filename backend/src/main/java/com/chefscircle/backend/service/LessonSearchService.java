@@ -0,0 +1,163 @@
+package com.chefscircle.backend.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.chefscircle.backend.model.SearchResultDTO;
+import com.chefscircle.backend.repository.SearchTextRepository;
+import com.chefscircle.backend.repository.SearchTextRepository.TextRow;
+
+/**
+ * Full-text lesson search served from an in-memory {@link LessonSearchIndex}.
+ *
+ * <p>Each lesson's text is tokenized once and kept as a {@link LessonSearchIndex.Document}
+ * together with a digest of its source text. A catalog reload re-reads the text but only
+ * re-tokenizes lessons whose digest changed, and a single lesson can be re-indexed on its
+ * own. The compact postings are then reassembled from the kept documents and swapped in;
+ * queries only dereference the current index and never block.
+ */
+@Service
+public class LessonSearchService {
+
+    private final SearchTextRepository searchTextRepository;
+    private final CatalogService catalogService;
+
+    private final Map<Long, IndexedLesson> lessons = new HashMap<>();
+    private volatile LessonSearchIndex index;
+
+    public LessonSearchService(SearchTextRepository searchTextRepository,
+                               CatalogService catalogService) {
+        this.searchTextRepository = searchTextRepository;
+        this.catalogService = catalogService;
+    }
+
+    public List<SearchResultDTO> search(String query, int limit) {
+        CatalogSnapshot catalog = catalogService.getSnapshot();
+        List<SearchResultDTO> results = new ArrayList<>();
+        for (LessonSearchIndex.Hit hit : current().search(query, limit)) {
+            // Lessons deleted since the last refresh are skipped rather than returned stale
+            catalog.findLesson(hit.lessonId()).ifPresent(lesson -> results.add(new SearchResultDTO(
+                    lesson.getId(), lesson.getSkillId(), catalog.findCuisineIdForLesson(lesson.getId()),
+                    lesson.getName(), lesson.getDescription(), lesson.getIcon(), hit.score())));
+        }
+        return results;
+    }
+
+    /**
+     * Re-reads all lesson text and re-tokenizes what changed since the last refresh.
+     */
+    @EventListener({ApplicationReadyEvent.class, CatalogReloadedEvent.class})
+    public synchronized void refresh() {
+        Map<Long, List<TextRow>> rowsByLesson = new LinkedHashMap<>();
+        for (TextRow row : searchTextRepository.findAll()) {
+            rowsByLesson.computeIfAbsent(row.lessonId(), k -> new ArrayList<>()).add(row);
+        }
+
+        int changed = 0;
+        for (Map.Entry<Long, List<TextRow>> entry : rowsByLesson.entrySet()) {
+            if (put(entry.getKey(), entry.getValue())) {
+                changed++;
+            }
+        }
+        int removed = lessons.size();
+        lessons.keySet().retainAll(rowsByLesson.keySet());
+        removed -= lessons.size();
+
+        if (index == null || changed > 0 || removed > 0) {
+            publish();
+        }
+        System.out.println("Search index refreshed: " + lessons.size() + " lessons, "
+                + changed + " re-indexed, " + removed + " removed");
+    }
+
+    /**
+     * Re-indexes one lesson after its text was edited.
+     *
+     * @return false if the lesson no longer exists (it is dropped from the index)
+     */
+    public synchronized boolean reindexLesson(Long lessonId) {
+        List<TextRow> rows = searchTextRepository.findByLessonId(lessonId);
+        boolean exists = !rows.isEmpty();
+        boolean changed = exists ? put(lessonId, rows) : lessons.remove(lessonId) != null;
+        if (changed || index == null) {
+            publish();
+        }
+        return exists;
+    }
+
+    public Map<String, Integer> getStatistics() {
+        LessonSearchIndex current = current();
+        return Map.of("lessons", current.size(), "terms", current.termCount());
+    }
+
+    /**
+     * @return true if the lesson was added or its text changed
+     */
+    private boolean put(Long lessonId, List<TextRow> rows) {
+        byte[] digest = digest(rows);
+        IndexedLesson existing = lessons.get(lessonId);
+        if (existing != null && Arrays.equals(existing.digest(), digest)) {
+            return false;
+        }
+        LessonSearchIndex.Document.Builder document = LessonSearchIndex.Document.builder(lessonId);
+        for (TextRow row : rows) {
+            document.add(row.text(), weightOf(row.field()));
+        }
+        lessons.put(lessonId, new IndexedLesson(digest, document.build()));
+        return true;
+    }
+
+    private void publish() {
+        index = LessonSearchIndex.build(lessons.values().stream().map(IndexedLesson::document).toList());
+    }
+
+    private LessonSearchIndex current() {
+        LessonSearchIndex current = index;
+        if (current == null) {
+            refresh();
+            current = index;
+        }
+        return current == null ? LessonSearchIndex.empty() : current;
+    }
+
+    private static int weightOf(String field) {
+        return switch (field) {
+            case SearchTextRepository.FIELD_NAME -> LessonSearchIndex.WEIGHT_NAME;
+            case SearchTextRepository.FIELD_DESCRIPTION -> LessonSearchIndex.WEIGHT_DESCRIPTION;
+            case SearchTextRepository.FIELD_SECTION_TITLE -> LessonSearchIndex.WEIGHT_SECTION_TITLE;
+            case SearchTextRepository.FIELD_QUESTION -> LessonSearchIndex.WEIGHT_QUESTION;
+            default -> LessonSearchIndex.WEIGHT_CONTENT;
+        };
+    }
+
+    private static byte[] digest(List<TextRow> rows) {
+        try {
+            MessageDigest sha = MessageDigest.getInstance("SHA-256");
+            for (TextRow row : rows) {
+                sha.update(row.field().getBytes(StandardCharsets.UTF_8));
+                sha.update((byte) 0);
+                if (row.text() != null) {
+                    sha.update(row.text().getBytes(StandardCharsets.UTF_8));
+                }
+                sha.update((byte) 0);
+            }
+            return sha.digest();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private record IndexedLesson(byte[] digest, LessonSearchIndex.Document document) {
+    }
+}
@@ -0,0 +1,100 @@
+package com.chefscircle.backend.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.stereotype.Service;
+
+import com.chefscircle.backend.model.Lesson;
+import com.chefscircle.backend.model.UserProgress;
+import com.chefscircle.backend.repository.ProgressBatchRepository;
+import com.chefscircle.backend.repository.UserProgressRepository;
+import com.chefscircle.backend.repository.UserProgressUpsertRepository;
+
+/**
+ * Server-side lesson locking. The unlock order lives in the catalog snapshot
+ * ({@link CatalogSnapshot#findSuccessor}); completing a lesson writes an 'available'
+ * row for its successor, so a user's open lessons are simply their 'available' rows
+ * plus any cuisine entry lesson they have not touched yet. A lesson with no row is locked.
+ */
+@Service
+public class LessonUnlockService {
+
+    private final CatalogService catalogService;
+    private final UserProgressRepository userProgressRepository;
+    private final UserProgressUpsertRepository progressUpsertRepository;
+    private final ProgressBatchRepository progressBatchRepository;
+
+    public LessonUnlockService(CatalogService catalogService,
+                               UserProgressRepository userProgressRepository,
+                               UserProgressUpsertRepository progressUpsertRepository,
+                               ProgressBatchRepository progressBatchRepository) {
+        this.catalogService = catalogService;
+        this.userProgressRepository = userProgressRepository;
+        this.progressUpsertRepository = progressUpsertRepository;
+        this.progressBatchRepository = progressBatchRepository;
+    }
+
+    /**
+     * Unlocks whatever completing the lesson opens up. Joins the caller's transaction.
+     *
+     * @return ids of lessons that became available with this call
+     */
+    public List<Long> unlockAfter(Long userId, Long lessonId) {
+        Optional<Long> successor = catalogService.getSnapshot().findSuccessor(lessonId);
+        if (successor.isPresent() && progressUpsertRepository.unlock(userId, successor.get())) {
+            return List.of(successor.get());
+        }
+        return List.of();
+    }
+
+    /**
+     * Batch variant of {@link #unlockAfter} for bulk syncs and rebuilds; one JDBC batch.
+     */
+    public void unlockAfterAll(Collection<UserProgress> completed) {
+        CatalogSnapshot catalog = catalogService.getSnapshot();
+        List<UserProgress> unlocked = new ArrayList<>();
+        for (UserProgress row : completed) {
+            catalog.findSuccessor(row.getLessonId())
+                    .ifPresent(next -> unlocked.add(new UserProgress(row.getUserId(), next, "available")));
+        }
+        progressBatchRepository.insertUnlocked(unlocked, LocalDateTime.now());
+    }
+
+    /**
+     * Re-derives unlocked lessons for users with ids in (fromUserId, toUserId], e.g. after the catalog changed.
+     */
+    public void rebuildUsers(long fromUserId, long toUserId) {
+        unlockAfterAll(progressBatchRepository.findCompletedForUsers(fromUserId, toUserId));
+    }
+
+    /**
+     * Lessons the user can start now (not yet completed), ordered by id.
+     */
+    public List<Lesson> findAvailableLessons(Long userId) {
+        CatalogSnapshot catalog = catalogService.getSnapshot();
+        Set<Long> available = new HashSet<>();
+        userProgressRepository.findByUserIdAndStatus(userId, "available")
+                .forEach(row -> available.add(row.getLessonId()));
+
+        List<Long> entries = catalog.getEntryLessonIds();
+        if (!entries.isEmpty()) {
+            Set<Long> started = new HashSet<>();
+            userProgressRepository.findByUserIdAndLessonIdIn(userId, entries)
+                    .forEach(row -> started.add(row.getLessonId()));
+            entries.stream().filter(id -> !started.contains(id)).forEach(available::add);
+        }
+
+        return available.stream()
+                .map(catalog::findLesson)
+                .flatMap(Optional::stream)
+                .sorted(Comparator.comparing(Lesson::getId))
+                .toList();
+    }
+}
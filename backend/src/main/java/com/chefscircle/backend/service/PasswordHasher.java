@@ -0,0 +1,117 @@
+package com.chefscircle.backend.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.security.spec.InvalidKeySpecException;
+import java.util.Base64;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+
+/**
+ * PBKDF2-HMAC-SHA256 password hashes in a self-describing format:
+ * {@code pbkdf2-sha256$<iterations>$<base64 salt>$<base64 hash>}.
+ *
+ * <p>The cost is stored with each hash, so raising the iteration count only affects new
+ * hashes; {@link Verification#needsRehash()} tells the caller when a stored hash was
+ * made with different parameters (or is a legacy plaintext value) and should be
+ * replaced after a successful login. CPU-bound and blocking; see {@link PasswordHashingService}.
+ */
+public final class PasswordHasher {
+
+    private static final String PREFIX = "pbkdf2-sha256";
+    private static final String ALGORITHM = "PBKDF2WithHmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getDecoder();
+
+    private final int iterations;
+    private final int saltBytes;
+    private final int hashBytes;
+    private final SecureRandom random = new SecureRandom();
+
+    public PasswordHasher(int iterations, int saltBytes, int hashBytes) {
+        if (iterations < 1 || saltBytes < 8 || hashBytes < 16) {
+            throw new IllegalArgumentException("Password hashing parameters too weak");
+        }
+        this.iterations = iterations;
+        this.saltBytes = saltBytes;
+        this.hashBytes = hashBytes;
+    }
+
+    public String hash(String password) {
+        byte[] salt = new byte[saltBytes];
+        random.nextBytes(salt);
+        byte[] hash = derive(password, salt, iterations, hashBytes);
+        return PREFIX + "$" + iterations + "$" + ENCODER.encodeToString(salt) + "$" + ENCODER.encodeToString(hash);
+    }
+
+    public Verification verify(String password, String stored) {
+        if (password == null || stored == null) {
+            return Verification.FAILED;
+        }
+        String[] parts = stored.split("\\$");
+        if (parts.length != 4 || !PREFIX.equals(parts[0])) {
+            // Legacy plaintext row from before hashing: accept once and have it rehashed.
+            // Still pay for one derivation so these accounts can't be told apart by timing.
+            deriveAndDiscard(password);
+            boolean matches = MessageDigest.isEqual(
+                    password.getBytes(StandardCharsets.UTF_8), stored.getBytes(StandardCharsets.UTF_8));
+            return matches ? Verification.MATCHED_NEEDS_REHASH : Verification.FAILED;
+        }
+
+        int storedIterations;
+        byte[] salt;
+        byte[] expected;
+        try {
+            storedIterations = Integer.parseInt(parts[1]);
+            salt = DECODER.decode(parts[2]);
+            expected = DECODER.decode(parts[3]);
+        } catch (IllegalArgumentException e) {
+            deriveAndDiscard(password);
+            return Verification.FAILED;
+        }
+        if (storedIterations < 1 || expected.length == 0) {
+            deriveAndDiscard(password);
+            return Verification.FAILED;
+        }
+
+        byte[] actual = derive(password, salt, storedIterations, expected.length);
+        if (!MessageDigest.isEqual(expected, actual)) {
+            return Verification.FAILED;
+        }
+        boolean outdated = storedIterations != iterations || salt.length != saltBytes || expected.length != hashBytes;
+        return outdated ? Verification.MATCHED_NEEDS_REHASH : Verification.MATCHED;
+    }
+
+    // Same cost as checking a real hash, for values that are rejected or compared without one
+    private void deriveAndDiscard(String password) {
+        derive(password, new byte[saltBytes], iterations, hashBytes);
+    }
+
+    private static byte[] derive(String password, byte[] salt, int iterations, int length) {
+        PBEKeySpec spec = new PBEKeySpec(password.toCharArray(), salt, iterations, length * 8);
+        try {
+            return SecretKeyFactory.getInstance(ALGORITHM).generateSecret(spec).getEncoded();
+        } catch (NoSuchAlgorithmException | InvalidKeySpecException e) {
+            throw new IllegalStateException("Password hashing not available", e);
+        } finally {
+            spec.clearPassword();
+        }
+    }
+
+    public enum Verification {
+        FAILED,
+        MATCHED,
+        MATCHED_NEEDS_REHASH;
+
+        public boolean matches() {
+            return this != FAILED;
+        }
+
+        public boolean needsRehash() {
+            return this == MATCHED_NEEDS_REHASH;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.chefscircle.backend.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Runs password hashing on its own small, bounded thread pool.
+ *
+ * <p>Hashing is deliberately slow, so it is kept off the request threads: at most
+ * {@code threads} hashes run at once and at most {@code queue-capacity} wait. When the
+ * queue is full the work is rejected straight away with {@link BusyException} instead of
+ * piling up, so a login burst costs a bounded amount of CPU and the rest of the API keeps
+ * its threads. Every call returns a future, so no request thread waits on a hash; the
+ * future fails with {@link BusyException} after {@code timeout-ms}.
+ */
+@Service
+public class PasswordHashingService {
+
+    private final PasswordHasher hasher;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMs;
+
+    // Stands in for a stored hash when the account does not exist, so unknown emails take as long as wrong passwords
+    private final String dummyHash;
+
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong timedOut = new AtomicLong();
+    private final AtomicLong totalHashNanos = new AtomicLong();
+
+    public PasswordHashingService(@Value("${chefscircle.passwords.iterations:210000}") int iterations,
+                                  @Value("${chefscircle.passwords.salt-bytes:16}") int saltBytes,
+                                  @Value("${chefscircle.passwords.hash-bytes:32}") int hashBytes,
+                                  @Value("${chefscircle.passwords.threads:0}") int threads,
+                                  @Value("${chefscircle.passwords.queue-capacity:64}") int queueCapacity,
+                                  @Value("${chefscircle.passwords.timeout-ms:5000}") long timeoutMs) {
+        this.hasher = new PasswordHasher(iterations, saltBytes, hashBytes);
+        // Default to half the cores so hashing can never take the whole machine
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.timeoutMs = timeoutMs;
+        this.dummyHash = hasher.hash("not-a-real-password");
+    }
+
+    /**
+     * Hashes a new password off the calling thread.
+     *
+     * @return a future failing with {@link BusyException} if the pool is saturated or too slow
+     */
+    public CompletableFuture<String> hashAsync(String password) {
+        return withTimeout(submit(() -> hasher.hash(password)));
+    }
+
+    /**
+     * Verifies a password off the calling thread. {@code stored} may be null for an
+     * unknown account; the work is still done against a dummy hash and fails.
+     * If the password matches but the stored hash is outdated, the result carries a
+     * fresh hash computed in the same task.
+     *
+     * @return a future failing with {@link BusyException} if the pool is saturated or too slow
+     */
+    public CompletableFuture<VerifyResult> verifyAsync(String password, String stored) {
+        return withTimeout(submit(() -> {
+            PasswordHasher.Verification verification = hasher.verify(password, stored == null ? dummyHash : stored);
+            if (stored == null || !verification.matches()) {
+                return VerifyResult.FAILED;
+            }
+            return new VerifyResult(true, verification.needsRehash() ? hasher.hash(password) : null);
+        }));
+    }
+
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        long done = completed.get();
+        stats.put("threads", executor.getMaximumPoolSize());
+        stats.put("active", executor.getActiveCount());
+        stats.put("queued", executor.getQueue().size());
+        stats.put("queueCapacity", executor.getQueue().size() + executor.getQueue().remainingCapacity());
+        stats.put("completed", done);
+        stats.put("rejected", rejected.get());
+        stats.put("timedOut", timedOut.get());
+        stats.put("averageHashMs", done == 0 ? 0.0 : totalHashNanos.get() / 1_000_000.0 / done);
+        return stats;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                long start = System.nanoTime();
+                try {
+                    return task.get();
+                } finally {
+                    totalHashNanos.addAndGet(System.nanoTime() - start);
+                    completed.incrementAndGet();
+                }
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            rejected.incrementAndGet();
+            return CompletableFuture.failedFuture(new BusyException("Password hashing is at capacity"));
+        }
+    }
+
+    private <T> CompletableFuture<T> withTimeout(CompletableFuture<T> future) {
+        return future.orTimeout(timeoutMs, TimeUnit.MILLISECONDS)
+                .exceptionallyCompose(e -> {
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null
+                            ? e.getCause() : e;
+                    if (cause instanceof TimeoutException) {
+                        timedOut.incrementAndGet();
+                        return CompletableFuture.failedFuture(new BusyException("Password hashing timed out"));
+                    }
+                    return CompletableFuture.failedFuture(cause);
+                });
+    }
+
+    /**
+     * Outcome of a password check. {@code rehash} is set when the stored hash should be replaced.
+     */
+    public record VerifyResult(boolean matches, String rehash) {
+
+        static final VerifyResult FAILED = new VerifyResult(false, null);
+    }
+
+    /**
+     * The hashing pool is saturated; callers should answer 503 with a Retry-After.
+     */
+    public static class BusyException extends RuntimeException {
+
+        public BusyException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.chefscircle.backend.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.chefscircle.backend.model.ProgressBatchResultDTO;
+import com.chefscircle.backend.model.UserProgress;
+import com.chefscircle.backend.repository.ProgressBatchRepository;
+import com.chefscircle.backend.repository.UserRepository;
+
+/**
+ * Applies many progress updates in one transaction with a fixed number of statements:
+ * one user lookup, one existing-row lookup, one insert batch, one update batch, one
+ * rollup batch, one unlock batch and one outbox batch, however many items the request carries.
+ */
+@Service
+public class ProgressBatchService {
+
+    private static final Set<String> STATUSES = Set.of("locked", "available", "completed");
+
+    private final ProgressBatchRepository progressBatchRepository;
+    private final UserRepository userRepository;
+    private final CatalogService catalogService;
+    private final LessonCompletionPipeline lessonCompletionPipeline;
+    private final ProgressRollupService progressRollupService;
+    private final LessonUnlockService lessonUnlockService;
+    private final CompletedLessonIndex completedLessonIndex;
+
+    public ProgressBatchService(ProgressBatchRepository progressBatchRepository,
+                                UserRepository userRepository,
+                                CatalogService catalogService,
+                                LessonCompletionPipeline lessonCompletionPipeline,
+                                ProgressRollupService progressRollupService,
+                                LessonUnlockService lessonUnlockService,
+                                CompletedLessonIndex completedLessonIndex) {
+        this.progressBatchRepository = progressBatchRepository;
+        this.userRepository = userRepository;
+        this.catalogService = catalogService;
+        this.lessonCompletionPipeline = lessonCompletionPipeline;
+        this.progressRollupService = progressRollupService;
+        this.lessonUnlockService = lessonUnlockService;
+        this.completedLessonIndex = completedLessonIndex;
+    }
+
+    /**
+     * Invalid items are reported back and skipped; the rest are written. When the same
+     * (user, lesson) appears more than once, the last occurrence wins.
+     */
+    @Transactional
+    public ProgressBatchResultDTO applyBatch(List<UserProgress> updates) {
+        ProgressBatchResultDTO result = new ProgressBatchResultDTO(updates.size());
+        CatalogSnapshot catalog = catalogService.getSnapshot();
+
+        Set<Long> requestedUsers = new HashSet<>();
+        for (UserProgress update : updates) {
+            if (update != null && update.getUserId() != null) {
+                requestedUsers.add(update.getUserId());
+            }
+        }
+        Set<Long> knownUsers = requestedUsers.isEmpty()
+                ? Set.of()
+                : new HashSet<>(userRepository.findExistingIds(requestedUsers));
+
+        Map<ProgressKey, UserProgress> latest = new LinkedHashMap<>();
+        for (int i = 0; i < updates.size(); i++) {
+            UserProgress update = updates.get(i);
+            String reason = validate(update, knownUsers, catalog);
+            if (reason != null) {
+                result.reject(i, update == null ? null : update.getUserId(),
+                        update == null ? null : update.getLessonId(), reason);
+                continue;
+            }
+            ProgressKey key = new ProgressKey(update.getUserId(), update.getLessonId());
+            latest.remove(key);
+            latest.put(key, update);
+        }
+        if (latest.isEmpty()) {
+            return result;
+        }
+
+        Set<Long> userIds = new HashSet<>();
+        Set<Long> lessonIds = new HashSet<>();
+        latest.keySet().forEach(key -> {
+            userIds.add(key.userId());
+            lessonIds.add(key.lessonId());
+        });
+        Map<ProgressKey, UserProgress> existing = new HashMap<>();
+        for (UserProgress row : progressBatchRepository.findExisting(userIds, lessonIds)) {
+            existing.put(new ProgressKey(row.getUserId(), row.getLessonId()), row);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<UserProgress> inserts = new ArrayList<>();
+        List<UserProgress> changes = new ArrayList<>();
+        List<UserProgress> justCompleted = new ArrayList<>();
+        List<UserProgress> uncompleted = new ArrayList<>();
+        latest.forEach((key, update) -> {
+            boolean completed = "completed".equals(update.getStatus());
+            UserProgress current = existing.get(key);
+            UserProgress row = new UserProgress(key.userId(), key.lessonId(), update.getStatus());
+            row.setScore(update.getScore());
+            row.setCompletedAt(completed ? now : null);
+            if (current == null) {
+                row.setCreatedAt(now);
+                inserts.add(row);
+            } else {
+                row.setId(current.getId());
+                changes.add(row);
+            }
+            boolean wasCompleted = current != null && "completed".equals(current.getStatus());
+            if (completed && !wasCompleted) {
+                justCompleted.add(row);
+            } else if (!completed && wasCompleted) {
+                uncompleted.add(row);
+            }
+        });
+
+        progressBatchRepository.insertProgress(inserts);
+        progressBatchRepository.updateProgress(changes);
+        progressRollupService.recordTransitions(justCompleted, uncompleted);
+        completedLessonIndex.recordTransitions(justCompleted, uncompleted);
+        if (!justCompleted.isEmpty()) {
+            lessonUnlockService.unlockAfterAll(justCompleted);
+            lessonCompletionPipeline.publishAll(justCompleted);
+        }
+
+        result.setInserted(inserts.size());
+        result.setUpdated(changes.size());
+        result.setCompleted(justCompleted.size());
+        return result;
+    }
+
+    private static String validate(UserProgress update, Set<Long> knownUsers, CatalogSnapshot catalog) {
+        if (update == null || update.getUserId() == null || update.getLessonId() == null) {
+            return "userId and lessonId are required";
+        }
+        if (update.getStatus() == null || !STATUSES.contains(update.getStatus())) {
+            return "Status must be one of " + STATUSES;
+        }
+        if (!knownUsers.contains(update.getUserId())) {
+            return "User not found";
+        }
+        if (catalog.findLesson(update.getLessonId()).isEmpty()) {
+            return "Lesson not found";
+        }
+        return null;
+    }
+
+    private record ProgressKey(Long userId, Long lessonId) {
+    }
+}
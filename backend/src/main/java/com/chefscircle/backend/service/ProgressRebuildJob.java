@@ -0,0 +1,139 @@
+package com.chefscircle.backend.service;
+
+import java.time.LocalDate;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.chefscircle.backend.model.JobCheckpoint;
+import com.chefscircle.backend.repository.JobCheckpointRepository;
+import com.chefscircle.backend.repository.ProgressRollupWriteRepository;
+
+/**
+ * Re-derives state that is computed from completed progress rows: the completion
+ * rollups ({@link ProgressRollupService}) and unlocked lessons ({@link LessonUnlockService}),
+ * a chunk of users per transaction.
+ *
+ * <p>Both are normally kept current incrementally as lessons are completed. A full rebuild
+ * is only needed when there is nothing to increment from: the first start after they were
+ * introduced, and after a catalog reload, which can reorder lessons or move them between
+ * skills. Both just mark the checkpoint incomplete and the next poll does the work.
+ *
+ * <p>Scheduled jobs share one scheduler thread, so each poll stops after {@code max-run-ms}
+ * and leaves the rest to the next poll instead of holding up the other jobs.
+ */
+@Service
+public class ProgressRebuildJob {
+
+    static final String JOB_NAME = "progress-rebuild";
+
+    private static final String NEXT_CHUNK_END_SQL =
+            "SELECT MAX(id) FROM (SELECT id FROM users WHERE id > ? ORDER BY id LIMIT ?) chunk";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JobCheckpointRepository checkpointRepository;
+    private final ProgressRollupWriteRepository rollupWriteRepository;
+    private final LessonUnlockService lessonUnlockService;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final long maxRunMs;
+    private final long chunkPauseMs;
+
+    public ProgressRebuildJob(JdbcTemplate jdbcTemplate,
+                              JobCheckpointRepository checkpointRepository,
+                              ProgressRollupWriteRepository rollupWriteRepository,
+                              LessonUnlockService lessonUnlockService,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${chefscircle.progress.rebuild.chunk-size:500}") int chunkSize,
+                              @Value("${chefscircle.progress.rebuild.max-run-ms:30000}") long maxRunMs,
+                              @Value("${chefscircle.progress.rebuild.chunk-pause-ms:20}") long chunkPauseMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.checkpointRepository = checkpointRepository;
+        this.rollupWriteRepository = rollupWriteRepository;
+        this.lessonUnlockService = lessonUnlockService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.maxRunMs = maxRunMs;
+        this.chunkPauseMs = chunkPauseMs;
+    }
+
+    @EventListener(CatalogReloadedEvent.class)
+    public void requestRebuild() {
+        ensureCheckpoint();
+        transactionTemplate.executeWithoutResult(status ->
+                checkpointRepository.lockByJobName(JOB_NAME).ifPresent(checkpoint -> {
+                    checkpoint.setLastId(0L);
+                    checkpoint.setCompleted(false);
+                    checkpointRepository.save(checkpoint);
+                }));
+    }
+
+    @Scheduled(initialDelayString = "${chefscircle.progress.rebuild.initial-delay-ms:5000}",
+               fixedDelayString = "${chefscircle.progress.rebuild.poll-interval-ms:60000}")
+    public void runIfDue() {
+        long deadline = System.currentTimeMillis() + maxRunMs;
+        int chunks = 0;
+        try {
+            ensureCheckpoint();
+            while (System.currentTimeMillis() < deadline) {
+                Boolean more = transactionTemplate.execute(status -> processChunk());
+                if (!Boolean.TRUE.equals(more)) {
+                    break;
+                }
+                chunks++;
+                Thread.sleep(chunkPauseMs);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            // The checkpoint only moves on commit, so the next poll retries the failed chunk
+            System.out.println("Progress rebuild failed: " + e.getMessage());
+        }
+        if (chunks > 0) {
+            System.out.println("Progress rebuild processed " + chunks + " chunks");
+        }
+    }
+
+    /**
+     * @return true if a chunk was processed and more may remain
+     */
+    private boolean processChunk() {
+        JobCheckpoint checkpoint = checkpointRepository.lockByJobName(JOB_NAME)
+                .orElseThrow(() -> new IllegalStateException("Missing checkpoint for " + JOB_NAME));
+        if (checkpoint.isCompleted()) {
+            return false;
+        }
+
+        long fromId = checkpoint.getLastId();
+        Long toId = jdbcTemplate.queryForObject(NEXT_CHUNK_END_SQL, Long.class, fromId, chunkSize);
+        if (toId == null) {
+            checkpoint.setCompleted(true);
+            checkpoint.setRunDate(LocalDate.now());
+            checkpointRepository.save(checkpoint);
+            return false;
+        }
+
+        rollupWriteRepository.rebuildUsers(fromId, toId);
+        lessonUnlockService.rebuildUsers(fromId, toId);
+        checkpoint.setLastId(toId);
+        checkpointRepository.save(checkpoint);
+        return true;
+    }
+
+    private void ensureCheckpoint() {
+        if (checkpointRepository.existsById(JOB_NAME)) {
+            return;
+        }
+        try {
+            checkpointRepository.save(new JobCheckpoint(JOB_NAME));
+        } catch (DataIntegrityViolationException e) {
+            // Another instance created it first
+        }
+    }
+}
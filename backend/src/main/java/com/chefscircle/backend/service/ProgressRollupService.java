@@ -0,0 +1,115 @@
+package com.chefscircle.backend.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.stereotype.Service;
+
+import com.chefscircle.backend.model.Lesson;
+import com.chefscircle.backend.model.ProgressRollupDTO;
+import com.chefscircle.backend.model.UserProgress;
+import com.chefscircle.backend.model.UserProgressRollup;
+import com.chefscircle.backend.model.UserProgressRollupId;
+import com.chefscircle.backend.repository.ProgressRollupWriteRepository;
+import com.chefscircle.backend.repository.UserProgressRollupRepository;
+
+/**
+ * Per-user completed-lesson counts for every skill and cuisine, so a progress bar
+ * is one primary-key lookup. Counts are kept in user_progress_rollups and adjusted
+ * in the same transaction that moves a progress row into or out of "completed";
+ * totals come from the catalog snapshot, which already holds them in memory.
+ */
+@Service
+public class ProgressRollupService {
+
+    private final UserProgressRollupRepository rollupRepository;
+    private final ProgressRollupWriteRepository rollupWriteRepository;
+    private final CatalogService catalogService;
+
+    public ProgressRollupService(UserProgressRollupRepository rollupRepository,
+                                 ProgressRollupWriteRepository rollupWriteRepository,
+                                 CatalogService catalogService) {
+        this.rollupRepository = rollupRepository;
+        this.rollupWriteRepository = rollupWriteRepository;
+        this.catalogService = catalogService;
+    }
+
+    /**
+     * Applies status transitions. Must be called inside the transaction that wrote the progress rows.
+     *
+     * @param completed rows that just moved to completed
+     * @param uncompleted rows that just moved away from completed
+     */
+    public void recordTransitions(Collection<UserProgress> completed, Collection<UserProgress> uncompleted) {
+        CatalogSnapshot catalog = catalogService.getSnapshot();
+        Map<UserProgressRollupId, Integer> deltas = new HashMap<>();
+        completed.forEach(row -> addDeltas(deltas, catalog, row.getUserId(), row.getLessonId(), 1));
+        uncompleted.forEach(row -> addDeltas(deltas, catalog, row.getUserId(), row.getLessonId(), -1));
+        rollupWriteRepository.applyDeltas(deltas);
+    }
+
+    public void recordCompleted(Long userId, Long lessonId) {
+        recordTransitions(List.of(new UserProgress(userId, lessonId, "completed")), List.of());
+    }
+
+    public void recordUncompleted(Long userId, Long lessonId) {
+        recordTransitions(List.of(), List.of(new UserProgress(userId, lessonId, null)));
+    }
+
+    /**
+     * Every skill and cuisine the user has completed at least one lesson in.
+     */
+    public List<ProgressRollupDTO> getRollups(Long userId) {
+        CatalogSnapshot catalog = catalogService.getSnapshot();
+        List<ProgressRollupDTO> rollups = new ArrayList<>();
+        for (UserProgressRollup rollup : rollupRepository.findByIdUserId(userId)) {
+            if (rollup.getCompleted() > 0) {
+                UserProgressRollupId id = rollup.getId();
+                rollups.add(new ProgressRollupDTO(id.getScopeType(), id.getScopeId(), rollup.getCompleted(),
+                        totalFor(catalog, id.getScopeType(), id.getScopeId())));
+            }
+        }
+        return rollups;
+    }
+
+    /**
+     * @return the user's progress in the skill or cuisine, or empty if it is not in the catalog
+     */
+    public Optional<ProgressRollupDTO> getRollup(Long userId, String scopeType, Long scopeId) {
+        CatalogSnapshot catalog = catalogService.getSnapshot();
+        boolean known = UserProgressRollup.SCOPE_SKILL.equals(scopeType)
+                ? catalog.findSkill(scopeId).isPresent()
+                : catalog.findCuisine(scopeId).isPresent();
+        if (!known) {
+            return Optional.empty();
+        }
+        int completed = rollupRepository.findById(new UserProgressRollupId(userId, scopeType, scopeId))
+                .map(UserProgressRollup::getCompleted)
+                .orElse(0);
+        return Optional.of(new ProgressRollupDTO(scopeType, scopeId, completed, totalFor(catalog, scopeType, scopeId)));
+    }
+
+    private static void addDeltas(Map<UserProgressRollupId, Integer> deltas, CatalogSnapshot catalog,
+                                  Long userId, Long lessonId, int delta) {
+        Long skillId = catalog.findLesson(lessonId).map(Lesson::getSkillId).orElse(null);
+        if (skillId == null) {
+            return;
+        }
+        deltas.merge(new UserProgressRollupId(userId, UserProgressRollup.SCOPE_SKILL, skillId), delta, Integer::sum);
+        Long cuisineId = catalog.findCuisineIdForLesson(lessonId);
+        if (cuisineId != null) {
+            deltas.merge(new UserProgressRollupId(userId, UserProgressRollup.SCOPE_CUISINE, cuisineId),
+                    delta, Integer::sum);
+        }
+    }
+
+    private static int totalFor(CatalogSnapshot catalog, String scopeType, Long scopeId) {
+        return UserProgressRollup.SCOPE_SKILL.equals(scopeType)
+                ? catalog.getLessonsBySkill(scopeId).size()
+                : catalog.countLessonsInCuisine(scopeId);
+    }
+}
@@ -0,0 +1,99 @@
+package com.chefscircle.backend.service;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.chefscircle.backend.model.Lesson;
+import com.chefscircle.backend.model.ProgressUpdateResultDTO;
+import com.chefscircle.backend.repository.UserProgressUpsertRepository;
+
+/**
+ * Single progress update: writes the row and, in the same transaction, everything a
+ * status transition drives (rollups, completed-lesson bitmap, unlocks, completion outbox).
+ * Shared by the progress endpoint and server-graded quiz attempts.
+ */
+@Service
+public class ProgressUpdateService {
+
+    private final UserProgressUpsertRepository progressUpsertRepository;
+    private final CatalogService catalogService;
+    private final LeaderboardService leaderboardService;
+    private final LessonCompletionPipeline lessonCompletionPipeline;
+    private final ProgressRollupService progressRollupService;
+    private final CompletedLessonIndex completedLessonIndex;
+    private final LessonUnlockService lessonUnlockService;
+
+    public ProgressUpdateService(UserProgressUpsertRepository progressUpsertRepository,
+                                 CatalogService catalogService,
+                                 LeaderboardService leaderboardService,
+                                 LessonCompletionPipeline lessonCompletionPipeline,
+                                 ProgressRollupService progressRollupService,
+                                 CompletedLessonIndex completedLessonIndex,
+                                 LessonUnlockService lessonUnlockService) {
+        this.progressUpsertRepository = progressUpsertRepository;
+        this.catalogService = catalogService;
+        this.leaderboardService = leaderboardService;
+        this.lessonCompletionPipeline = lessonCompletionPipeline;
+        this.progressRollupService = progressRollupService;
+        this.completedLessonIndex = completedLessonIndex;
+        this.lessonUnlockService = lessonUnlockService;
+    }
+
+    /**
+     * @return the outcome, or empty if the user or lesson does not exist
+     */
+    @Transactional
+    public Optional<ProgressUpdateResultDTO> update(Long userId, Long lessonId, String status, Integer score) {
+        // Existence checks come from in-memory indexes, not per-request lookups
+        Optional<Integer> currentXp = leaderboardService.findXp(userId);
+        if (currentXp.isEmpty()) {
+            System.out.println("User not found with ID: " + userId);
+            return Optional.empty();
+        }
+        Optional<Lesson> lessonOpt = catalogService.getSnapshot().findLesson(lessonId);
+        if (lessonOpt.isEmpty()) {
+            System.out.println("Lesson not found with ID: " + lessonId);
+            return Optional.empty();
+        }
+
+        boolean justCompleted = false;
+        if ("completed".equals(status)) {
+            justCompleted = progressUpsertRepository.complete(userId, lessonId, score);
+            if (justCompleted) {
+                progressRollupService.recordCompleted(userId, lessonId);
+                completedLessonIndex.recordCompleted(userId, lessonId);
+            }
+        } else if (progressUpsertRepository.upsertStatus(userId, lessonId, status, score)) {
+            progressRollupService.recordUncompleted(userId, lessonId);
+            completedLessonIndex.recordUncompleted(userId, lessonId);
+        }
+
+        int xpAwarded = 0;
+        List<Long> unlockedLessonIds = List.of();
+        if (justCompleted) {
+            System.out.println("Lesson just completed, queueing XP and achievement processing");
+            lessonCompletionPipeline.publish(userId, lessonId);
+            Integer xpReward = lessonOpt.get().getXpReward();
+            xpAwarded = xpReward == null ? 0 : xpReward;
+            unlockedLessonIds = lessonUnlockService.unlockAfter(userId, lessonId);
+        }
+
+        // XP is applied asynchronously, so the response reports the pending reward on top of the current total
+        return Optional.of(new ProgressUpdateResultDTO(userId, lessonId, status, justCompleted, xpAwarded,
+                currentXp.get() + xpAwarded, unlockedLessonIds));
+    }
+
+    /**
+     * Stores the score of an attempt that did not complete the lesson. The status is left
+     * as it is, and a completed lesson keeps the score it was completed with.
+     */
+    @Transactional
+    public void recordScore(Long userId, Long lessonId, Integer score) {
+        // With no row yet, write the status the lesson already has implicitly: open only if it starts a cuisine
+        String statusIfNew = catalogService.getSnapshot().getEntryLessonIds().contains(lessonId) ? "available" : "locked";
+        progressUpsertRepository.recordScore(userId, lessonId, statusIfNew, score);
+    }
+}
@@ -0,0 +1,84 @@
+package com.chefscircle.backend.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.chefscircle.backend.model.Quiz;
+import com.chefscircle.backend.repository.QuizRepository;
+
+/**
+ * Per-lesson answer keys for server-side grading. Each key holds the questions in
+ * order with their correct answer already normalized, so grading an attempt is one
+ * map lookup plus a string comparison per question. Keys are built on first use and
+ * dropped when the catalog reloads.
+ */
+@Service
+public class QuizAnswerKeyCache {
+
+    private final QuizRepository quizRepository;
+
+    private final Map<Long, AnswerKey> keys = new ConcurrentHashMap<>();
+
+    public QuizAnswerKeyCache(QuizRepository quizRepository) {
+        this.quizRepository = quizRepository;
+    }
+
+    public AnswerKey get(Long lessonId) {
+        return keys.computeIfAbsent(lessonId, this::build);
+    }
+
+    @EventListener(CatalogReloadedEvent.class)
+    public void invalidateAll() {
+        keys.clear();
+    }
+
+    /**
+     * Canonical form used on both sides of the comparison: Unicode-compatible
+     * composition, trimmed, internal whitespace collapsed and case-folded.
+     */
+    public static String normalize(String answer) {
+        if (answer == null) {
+            return "";
+        }
+        return Normalizer.normalize(answer, Normalizer.Form.NFKC)
+                .strip()
+                .replaceAll("\\s+", " ")
+                .toLowerCase(Locale.ROOT);
+    }
+
+    private AnswerKey build(Long lessonId) {
+        List<Quiz> quizzes = quizRepository.findByLessonIdOrderByOrderIndex(lessonId);
+        List<Question> questions = new ArrayList<>(quizzes.size());
+        for (Quiz quiz : quizzes) {
+            // A question without a correct answer can't be passed, rather than accepting a blank one
+            String correct = quiz.getCorrectAnswer();
+            String normalized = correct == null || correct.isBlank() ? null : normalize(correct);
+            questions.add(new Question(quiz.getId(), normalized, correct, quiz.getExplanation()));
+        }
+        return new AnswerKey(List.copyOf(questions));
+    }
+
+    /**
+     * @param normalizedAnswer null if the quiz has no correct answer; such a question accepts nothing
+     */
+    public record Question(Long quizId, String normalizedAnswer, String correctAnswer, String explanation) {
+
+        public boolean accepts(String answer) {
+            return normalizedAnswer != null && normalizedAnswer.equals(normalize(answer));
+        }
+    }
+
+    public record AnswerKey(List<Question> questions) {
+
+        public boolean isEmpty() {
+            return questions.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.chefscircle.backend.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.chefscircle.backend.model.ProgressUpdateResultDTO;
+import com.chefscircle.backend.model.QuizAttemptDTO;
+import com.chefscircle.backend.model.QuizAttemptResultDTO;
+
+/**
+ * Grades a whole quiz attempt against the cached answer key and, when every answer
+ * is correct, completes the lesson in the same transaction. A failed attempt only
+ * records its score and leaves the lesson's status alone. Correct answers are only
+ * sent back once the attempt passes, so a failed attempt can't be replayed with them.
+ */
+@Service
+public class QuizAttemptService {
+
+    private static final int PASSING_SCORE = 100;
+
+    private final QuizAnswerKeyCache answerKeyCache;
+    private final ProgressUpdateService progressUpdateService;
+    private final LeaderboardService leaderboardService;
+
+    public QuizAttemptService(QuizAnswerKeyCache answerKeyCache,
+                              ProgressUpdateService progressUpdateService,
+                              LeaderboardService leaderboardService) {
+        this.answerKeyCache = answerKeyCache;
+        this.progressUpdateService = progressUpdateService;
+        this.leaderboardService = leaderboardService;
+    }
+
+    /**
+     * @return the graded attempt, or empty if the lesson has no quiz or the user does not exist
+     */
+    @Transactional
+    public Optional<QuizAttemptResultDTO> submit(Long lessonId, QuizAttemptDTO attempt) {
+        if (leaderboardService.findXp(attempt.getUserId()).isEmpty()) {
+            System.out.println("User not found with ID: " + attempt.getUserId());
+            return Optional.empty();
+        }
+        QuizAnswerKeyCache.AnswerKey key = answerKeyCache.get(lessonId);
+        if (key.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Map<Long, String> answers = new HashMap<>();
+        if (attempt.getAnswers() != null) {
+            for (QuizAttemptDTO.Answer answer : attempt.getAnswers()) {
+                if (answer != null && answer.getQuizId() != null) {
+                    answers.put(answer.getQuizId(), answer.getAnswer());
+                }
+            }
+        }
+
+        List<QuizAnswerKeyCache.Question> questions = key.questions();
+        int total = questions.size();
+        boolean[] correct = new boolean[total];
+        int correctCount = 0;
+        for (int i = 0; i < total; i++) {
+            QuizAnswerKeyCache.Question question = questions.get(i);
+            correct[i] = question.accepts(answers.get(question.quizId()));
+            if (correct[i]) {
+                correctCount++;
+            }
+        }
+
+        int score = Math.round(correctCount * 100f / total);
+        boolean passed = score >= PASSING_SCORE;
+
+        List<QuizAttemptResultDTO.QuestionResult> results = new ArrayList<>(total);
+        for (int i = 0; i < total; i++) {
+            QuizAnswerKeyCache.Question question = questions.get(i);
+            results.add(new QuizAttemptResultDTO.QuestionResult(question.quizId(), correct[i],
+                    passed ? question.correctAnswer() : null,
+                    passed ? question.explanation() : null));
+        }
+
+        ProgressUpdateResultDTO progress = null;
+        if (!passed) {
+            progressUpdateService.recordScore(attempt.getUserId(), lessonId, score);
+        } else {
+            Optional<ProgressUpdateResultDTO> updated =
+                    progressUpdateService.update(attempt.getUserId(), lessonId, "completed", score);
+            if (updated.isEmpty()) {
+                return Optional.empty();
+            }
+            progress = updated.get();
+        }
+        return Optional.of(new QuizAttemptResultDTO(lessonId, correctCount, total, score, passed, progress, results));
+    }
+}
@@ -0,0 +1,90 @@
+package com.chefscircle.backend.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Per-endpoint rate limits for the unauthenticated user endpoints, checked before
+ * any repository call so abusive clients can't tie up database connections.
+ *
+ * <p>Login is limited both per client IP and per email: the IP bucket is checked first,
+ * so one client cycling through emails cannot create unbounded email buckets, and the
+ * email bucket stops a credential-stuffing run spread over many IPs against one account.
+ * Client IPs come from {@code getRemoteAddr()}; behind a proxy set
+ * {@code server.forward-headers-strategy} so that reflects the real client.
+ */
+@Service
+public class RateLimitService {
+
+    private final TokenBucketRateLimiter loginPerIp;
+    private final TokenBucketRateLimiter loginPerEmail;
+    private final TokenBucketRateLimiter signupPerIp;
+    private final TokenBucketRateLimiter availabilityPerIp;
+
+    public RateLimitService(@Value("${chefscircle.ratelimit.stripes:16}") int stripes,
+                            @Value("${chefscircle.ratelimit.login.per-ip.capacity:20}") int loginIpCapacity,
+                            @Value("${chefscircle.ratelimit.login.per-ip.refill-per-minute:10}") double loginIpRefill,
+                            @Value("${chefscircle.ratelimit.login.per-email.capacity:5}") int loginEmailCapacity,
+                            @Value("${chefscircle.ratelimit.login.per-email.refill-per-minute:1}") double loginEmailRefill,
+                            @Value("${chefscircle.ratelimit.signup.per-ip.capacity:5}") int signupIpCapacity,
+                            @Value("${chefscircle.ratelimit.signup.per-ip.refill-per-minute:1}") double signupIpRefill,
+                            @Value("${chefscircle.ratelimit.availability.per-ip.capacity:60}") int availabilityIpCapacity,
+                            @Value("${chefscircle.ratelimit.availability.per-ip.refill-per-minute:60}") double availabilityIpRefill) {
+        this.loginPerIp = new TokenBucketRateLimiter("login.per-ip", loginIpCapacity, loginIpRefill, stripes);
+        this.loginPerEmail = new TokenBucketRateLimiter("login.per-email", loginEmailCapacity, loginEmailRefill, stripes);
+        this.signupPerIp = new TokenBucketRateLimiter("signup.per-ip", signupIpCapacity, signupIpRefill, stripes);
+        this.availabilityPerIp = new TokenBucketRateLimiter("availability.per-ip",
+                availabilityIpCapacity, availabilityIpRefill, stripes);
+    }
+
+    /**
+     * @return 0 if the attempt may proceed, otherwise seconds to wait before retrying
+     */
+    public long checkLogin(String clientIp, String email) {
+        long waitMs = loginPerIp.tryAcquire(clientIp);
+        if (waitMs == 0 && email != null) {
+            waitMs = loginPerEmail.tryAcquire(UserAvailabilityService.normalize(email));
+        }
+        return toRetryAfterSeconds(waitMs);
+    }
+
+    public long checkSignup(String clientIp) {
+        return toRetryAfterSeconds(signupPerIp.tryAcquire(clientIp));
+    }
+
+    public long checkAvailability(String clientIp) {
+        return toRetryAfterSeconds(availabilityPerIp.tryAcquire(clientIp));
+    }
+
+    @Scheduled(fixedDelayString = "${chefscircle.ratelimit.evict-interval-ms:60000}")
+    public void evictIdle() {
+        int removed = 0;
+        for (TokenBucketRateLimiter limiter : limiters()) {
+            removed += limiter.evictIdle();
+        }
+        if (removed > 0) {
+            System.out.println("Rate limiter evicted " + removed + " idle buckets");
+        }
+    }
+
+    public Map<String, Integer> getStatistics() {
+        Map<String, Integer> sizes = new LinkedHashMap<>();
+        for (TokenBucketRateLimiter limiter : limiters()) {
+            sizes.put(limiter.getName(), limiter.size());
+        }
+        return sizes;
+    }
+
+    private TokenBucketRateLimiter[] limiters() {
+        return new TokenBucketRateLimiter[] {loginPerIp, loginPerEmail, signupPerIp, availabilityPerIp};
+    }
+
+    // Retry-After is whole seconds; round up so clients never retry too early
+    private static long toRetryAfterSeconds(long waitMs) {
+        return waitMs == 0 ? 0 : (waitMs + 999) / 1000;
+    }
+}
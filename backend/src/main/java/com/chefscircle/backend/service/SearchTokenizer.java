@@ -0,0 +1,70 @@
+package com.chefscircle.backend.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Splits lesson text and search queries into index terms: accents are stripped,
+ * text is lower-cased and split on anything that is not a letter or digit.
+ * Single characters and common English stop words are dropped.
+ */
+final class SearchTokenizer {
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "how", "in", "into",
+            "is", "it", "its", "of", "on", "or", "that", "the", "this", "to", "was", "what",
+            "when", "which", "with", "you", "your");
+
+    private SearchTokenizer() {
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> terms = new ArrayList<>();
+        for (String token : split(text)) {
+            if (token.length() > 1 && !STOP_WORDS.contains(token)) {
+                terms.add(token);
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * Like {@link #tokenize} but keeps the last token whatever it is, since the
+     * user may still be typing it and it is matched as a prefix.
+     */
+    static List<String> tokenizeQuery(String query) {
+        List<String> tokens = split(query);
+        List<String> terms = new ArrayList<>(tokens.size());
+        for (int i = 0; i < tokens.size(); i++) {
+            String token = tokens.get(i);
+            boolean last = i == tokens.size() - 1;
+            if (last || (token.length() > 1 && !STOP_WORDS.contains(token))) {
+                terms.add(token);
+            }
+        }
+        return terms;
+    }
+
+    private static List<String> split(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String folded = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFKD))
+                .replaceAll("")
+                .toLowerCase(Locale.ROOT);
+        List<String> tokens = new ArrayList<>();
+        for (String token : SEPARATORS.split(folded)) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+}
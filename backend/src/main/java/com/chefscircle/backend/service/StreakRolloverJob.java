@@ -0,0 +1,132 @@
+package com.chefscircle.backend.service;
+
+import java.sql.Date;
+import java.time.LocalDate;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.chefscircle.backend.model.JobCheckpoint;
+import com.chefscircle.backend.repository.JobCheckpointRepository;
+
+/**
+ * Daily job that zeroes curr_streak for users whose last active day is before yesterday.
+ *
+ * <p>The streak table (one row per user) is walked in id order, {@code chunk-size} rows at
+ * a time. Each chunk is one short transaction: lock the checkpoint row, reset the chunk's
+ * stale streaks with a single range UPDATE, and advance the checkpoint. Row locks are held
+ * only for that chunk, and a restart resumes after the last committed chunk.
+ *
+ * <p>The job is polled rather than fired once: every poll finishes today's run if it has
+ * not completed yet, stopping after {@code max-run-ms} so a single poll stays bounded.
+ */
+@Service
+public class StreakRolloverJob {
+
+    static final String JOB_NAME = "streak-rollover";
+
+    private static final String NEXT_CHUNK_END_SQL =
+            "SELECT MAX(id) FROM (SELECT id FROM streak WHERE id > ? ORDER BY id LIMIT ?) chunk";
+
+    private static final String RESET_CHUNK_SQL = """
+            UPDATE streak SET curr_streak = 0
+             WHERE id > ? AND id <= ?
+               AND curr_streak <> 0
+               AND (last_active_dt IS NULL OR last_active_dt < ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JobCheckpointRepository checkpointRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final long maxRunMs;
+    private final long chunkPauseMs;
+
+    public StreakRolloverJob(JdbcTemplate jdbcTemplate,
+                             JobCheckpointRepository checkpointRepository,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${chefscircle.streaks.rollover.chunk-size:1000}") int chunkSize,
+                             @Value("${chefscircle.streaks.rollover.max-run-ms:300000}") long maxRunMs,
+                             @Value("${chefscircle.streaks.rollover.chunk-pause-ms:20}") long chunkPauseMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.checkpointRepository = checkpointRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.maxRunMs = maxRunMs;
+        this.chunkPauseMs = chunkPauseMs;
+    }
+
+    @Scheduled(initialDelayString = "${chefscircle.streaks.rollover.initial-delay-ms:60000}",
+               fixedDelayString = "${chefscircle.streaks.rollover.poll-interval-ms:900000}")
+    public void runIfDue() {
+        LocalDate today = LocalDate.now();
+        long deadline = System.currentTimeMillis() + maxRunMs;
+        int chunks = 0;
+        try {
+            ensureCheckpoint();
+            while (System.currentTimeMillis() < deadline) {
+                Boolean more = transactionTemplate.execute(status -> processChunk(today));
+                if (!Boolean.TRUE.equals(more)) {
+                    break;
+                }
+                chunks++;
+                Thread.sleep(chunkPauseMs);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            // The checkpoint only moves on commit, so the next poll retries the failed chunk
+            System.out.println("Streak rollover failed: " + e.getMessage());
+        }
+        if (chunks > 0) {
+            System.out.println("Streak rollover processed " + chunks + " chunks for " + today);
+        }
+    }
+
+    /**
+     * Processes the next chunk of today's run.
+     *
+     * @return true if a chunk was processed and more may remain
+     */
+    private boolean processChunk(LocalDate today) {
+        JobCheckpoint checkpoint = checkpointRepository.lockByJobName(JOB_NAME)
+                .orElseThrow(() -> new IllegalStateException("Missing checkpoint for " + JOB_NAME));
+        if (!today.equals(checkpoint.getRunDate())) {
+            // First chunk of a new day's run
+            checkpoint.setRunDate(today);
+            checkpoint.setLastId(0L);
+            checkpoint.setCompleted(false);
+        } else if (checkpoint.isCompleted()) {
+            return false;
+        }
+
+        long fromId = checkpoint.getLastId();
+        Long toId = jdbcTemplate.queryForObject(NEXT_CHUNK_END_SQL, Long.class, fromId, chunkSize);
+        if (toId == null) {
+            checkpoint.setCompleted(true);
+            checkpointRepository.save(checkpoint);
+            return false;
+        }
+
+        jdbcTemplate.update(RESET_CHUNK_SQL, fromId, toId, Date.valueOf(today.minusDays(1)));
+        checkpoint.setLastId(toId);
+        checkpointRepository.save(checkpoint);
+        return true;
+    }
+
+    private void ensureCheckpoint() {
+        if (checkpointRepository.existsById(JOB_NAME)) {
+            return;
+        }
+        try {
+            checkpointRepository.save(new JobCheckpoint(JOB_NAME));
+        } catch (DataIntegrityViolationException e) {
+            // Another instance created it first
+        }
+    }
+}
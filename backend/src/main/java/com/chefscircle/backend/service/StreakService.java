@@ -0,0 +1,100 @@
+package com.chefscircle.backend.service;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.chefscircle.backend.model.Streak;
+import com.chefscircle.backend.model.StreakDTO;
+import com.chefscircle.backend.repository.StreakRepository;
+
+/**
+ * Computes streaks on the server from recorded activity days.
+ *
+ * <p>Each user has a single streak row holding an {@link ActivityBitmap} over the last
+ * {@code window-days} days plus the derived current/longest streak and last active day.
+ * Writes update the bitmap and re-derive the streaks with bit scans; reads only look at
+ * the stored values, so they never depend on what a client posted.
+ */
+@Service
+public class StreakService {
+
+    private final StreakRepository streakRepository;
+    private final AchievementRuleEngine achievementRuleEngine;
+    private final int windowDays;
+
+    public StreakService(StreakRepository streakRepository,
+                         AchievementRuleEngine achievementRuleEngine,
+                         @Value("${chefscircle.streaks.window-days:400}") int windowDays) {
+        this.streakRepository = streakRepository;
+        this.achievementRuleEngine = achievementRuleEngine;
+        this.windowDays = windowDays;
+    }
+
+    /**
+     * Marks the given days as active for the user and re-derives their streaks.
+     */
+    @Transactional
+    public StreakDTO recordActivity(Long userId, Collection<LocalDate> days) {
+        // Create-then-lock: two first activities for a user would otherwise both insert and collide
+        streakRepository.insertIfAbsent(userId);
+        Streak streak = streakRepository.findForUpdateByUserId(userId).orElseThrow();
+        ActivityBitmap bitmap = bitmapOf(streak);
+
+        LocalDate cutoff = LocalDate.now().minusDays(windowDays);
+        boolean changed = false;
+        for (LocalDate day : days) {
+            if (!day.isBefore(cutoff)) {
+                changed |= bitmap.record(day);
+            }
+        }
+        if (!changed) {
+            return toDto(userId, streak);
+        }
+
+        bitmap.trimBefore(cutoff);
+        int current = bitmap.currentRun();
+        streak.setCurrStreak(current);
+        streak.setLongestStreak(Math.max(streak.getLongestStreak(), bitmap.longestRun()));
+        streak.setLastActiveDt(bitmap.getLastActiveDay());
+        streak.setActivityOrigin(bitmap.getOrigin());
+        streak.setActivityBits(bitmap.toByteArray());
+        streakRepository.save(streak);
+
+        achievementRuleEngine.onStreakChanged(userId, current);
+        return toDto(userId, streak);
+    }
+
+    public Optional<StreakDTO> getStreak(Long userId) {
+        return streakRepository.findFirstByUserIdOrderByIdDesc(userId).map(streak -> toDto(userId, streak));
+    }
+
+    /**
+     * Rows written before the bitmap existed only carry the derived columns;
+     * rebuild the current run from them so it is not lost on the first update.
+     */
+    private static ActivityBitmap bitmapOf(Streak streak) {
+        ActivityBitmap bitmap = ActivityBitmap.of(streak.getActivityOrigin(), streak.getActivityBits());
+        if (bitmap.isEmpty() && streak.getLastActiveDt() != null) {
+            for (int i = 0; i < streak.getCurrStreak(); i++) {
+                bitmap.record(streak.getLastActiveDt().minusDays(i));
+            }
+        }
+        return bitmap;
+    }
+
+    /**
+     * A streak is only current if its last active day is today or yesterday.
+     */
+    private static StreakDTO toDto(Long userId, Streak streak) {
+        LocalDate today = LocalDate.now();
+        LocalDate last = streak.getLastActiveDt();
+        boolean alive = last != null && !last.isBefore(today.minusDays(1));
+        return new StreakDTO(userId, alive ? streak.getCurrStreak() : 0, streak.getLongestStreak(),
+                last, today.equals(last));
+    }
+}
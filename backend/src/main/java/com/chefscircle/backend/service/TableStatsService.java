@@ -0,0 +1,28 @@
+package com.chefscircle.backend.service;
+
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * Cheap row-count estimates for paginated endpoints. Reads the storage engine's
+ * statistics from information_schema instead of running COUNT(*) over the table,
+ * so the number can lag behind recent writes.
+ */
+@Service
+public class TableStatsService {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TableStatsService(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public Long estimateRowCount(String tableName) {
+        List<Long> rows = jdbcTemplate.queryForList(
+                "SELECT TABLE_ROWS FROM information_schema.TABLES WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ?",
+                Long.class, tableName);
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+}
@@ -0,0 +1,137 @@
+package com.chefscircle.backend.service;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token buckets keyed by an arbitrary string (client IP, email, ...).
+ *
+ * <p>Each bucket is a single {@link AtomicLong} packing the time of its last refill
+ * (high 40 bits, milliseconds since the limiter was created) and its level in
+ * thousandths of a token (low 24 bits), so taking a token is one CAS and never blocks.
+ * Buckets live in a fixed number of independent stripes chosen by key hash; the idle
+ * sweep walks them one at a time.
+ *
+ * <p>A bucket that has refilled to capacity is indistinguishable from a new one, so
+ * {@link #evictIdle} drops exactly those and memory only holds keys seen recently.
+ * A token taken at the same moment a bucket is evicted may be forgotten, which at
+ * worst grants one extra request.
+ */
+public final class TokenBucketRateLimiter {
+
+    private static final long MILLI = 1000L;
+    private static final int LEVEL_BITS = 24;
+    private static final long LEVEL_MASK = (1L << LEVEL_BITS) - 1;
+
+    private final String name;
+    private final long capacity;
+    private final double refillPerMs;
+    private final long origin = System.currentTimeMillis();
+    private final ConcurrentHashMap<String, AtomicLong>[] stripes;
+
+    /**
+     * @param capacity burst size in tokens
+     * @param refillPerMinute sustained rate in tokens per minute
+     */
+    @SuppressWarnings("unchecked")
+    public TokenBucketRateLimiter(String name, int capacity, double refillPerMinute, int stripeCount) {
+        if (capacity < 1 || capacity * MILLI > LEVEL_MASK) {
+            throw new IllegalArgumentException("Rate limit capacity out of range: " + capacity);
+        }
+        if (refillPerMinute <= 0) {
+            throw new IllegalArgumentException("Rate limit refill must be positive: " + refillPerMinute);
+        }
+        this.name = name;
+        this.capacity = capacity * MILLI;
+        this.refillPerMs = refillPerMinute * MILLI / 60_000d;
+        int stripeTotal = 1;
+        while (stripeTotal < stripeCount) {
+            stripeTotal <<= 1;
+        }
+        this.stripes = new ConcurrentHashMap[stripeTotal];
+        for (int i = 0; i < stripeTotal; i++) {
+            stripes[i] = new ConcurrentHashMap<>();
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Takes one token for {@code key}.
+     *
+     * @return 0 if allowed, otherwise how many milliseconds until a token is available
+     */
+    public long tryAcquire(String key) {
+        long now = System.currentTimeMillis() - origin;
+        AtomicLong bucket = stripeFor(key).computeIfAbsent(key, k -> new AtomicLong(pack(now, capacity)));
+        while (true) {
+            long state = bucket.get();
+            long refilledAt = state >>> LEVEL_BITS;
+            long level = state & LEVEL_MASK;
+            long elapsed = Math.max(0, now - refilledAt);
+            long added = (long) (elapsed * refillPerMs);
+            long newLevel;
+            long newRefilledAt;
+            if (level + added >= capacity) {
+                newLevel = capacity;
+                newRefilledAt = now;
+            } else {
+                newLevel = level + added;
+                // Only move the clock by the time actually converted into tokens, so
+                // frequent calls don't lose the fractional remainder
+                newRefilledAt = refilledAt + (long) (added / refillPerMs);
+            }
+            if (newLevel < MILLI) {
+                return Math.max(1, (long) Math.ceil((MILLI - newLevel) / refillPerMs));
+            }
+            if (bucket.compareAndSet(state, pack(newRefilledAt, newLevel - MILLI))) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Drops buckets that have refilled to capacity.
+     *
+     * @return number of buckets removed
+     */
+    public int evictIdle() {
+        long now = System.currentTimeMillis() - origin;
+        int removed = 0;
+        for (ConcurrentHashMap<String, AtomicLong> stripe : stripes) {
+            Iterator<Map.Entry<String, AtomicLong>> it = stripe.entrySet().iterator();
+            while (it.hasNext()) {
+                long state = it.next().getValue().get();
+                long level = state & LEVEL_MASK;
+                long elapsed = Math.max(0, now - (state >>> LEVEL_BITS));
+                if (level + (long) (elapsed * refillPerMs) >= capacity) {
+                    it.remove();
+                    removed++;
+                }
+            }
+        }
+        return removed;
+    }
+
+    public int size() {
+        int total = 0;
+        for (ConcurrentHashMap<String, AtomicLong> stripe : stripes) {
+            total += stripe.size();
+        }
+        return total;
+    }
+
+    private ConcurrentHashMap<String, AtomicLong> stripeFor(String key) {
+        int h = key.hashCode();
+        h ^= h >>> 16;
+        return stripes[h & (stripes.length - 1)];
+    }
+
+    private static long pack(long refilledAt, long level) {
+        return (refilledAt << LEVEL_BITS) | level;
+    }
+}
@@ -0,0 +1,18 @@
+package com.chefscircle.backend.service;
+
+/**
+ * Published when user_achievements rows are written for a user so that
+ * anything caching that user's unlocked set can drop it.
+ */
+public class UserAchievementsChangedEvent {
+
+    private final Long userId;
+
+    public UserAchievementsChangedEvent(Long userId) {
+        this.userId = userId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+}
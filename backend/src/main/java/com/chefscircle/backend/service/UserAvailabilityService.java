@@ -0,0 +1,187 @@
+package com.chefscircle.backend.service;
+
+import java.text.Normalizer;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.chefscircle.backend.model.UserHandleDTO;
+import com.chefscircle.backend.repository.UserRepository;
+
+/**
+ * Answers "is this username / email taken?" mostly from memory.
+ *
+ * <p>Normalized usernames and emails are kept in two {@link BloomFilter}s. A filter miss
+ * means the value is definitely free; only a "maybe present" answer goes to the database,
+ * as an existence probe on the unique index. Normalization folds case, accents and
+ * compatibility forms to match the case- and accent-insensitive column collation, so
+ * values the database treats as equal map to the same key. The unique constraints still
+ * back this up on save for any exotic equivalence the folding does not cover.
+ *
+ * <p>Signups and renames add to the filters as they happen. Values that go away (renames,
+ * deletes) cannot be removed from a Bloom filter and only cost extra database probes;
+ * the filters are rebuilt at startup and whenever they fill up or collect too many
+ * stale entries. While a rebuild scans the table, new values go into both filters so
+ * none is lost when the new one is swapped in.
+ */
+@Service
+public class UserAvailabilityService {
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+
+    private final UserRepository userRepository;
+    private final double falsePositiveRate;
+    private final int rebuildChunkSize;
+
+    private volatile Filters filters;
+    private volatile Filters building;
+    private final AtomicLong staleEntries = new AtomicLong();
+    private final AtomicLong answeredFromMemory = new AtomicLong();
+    private final AtomicLong databaseProbes = new AtomicLong();
+
+    public UserAvailabilityService(UserRepository userRepository,
+                                   @Value("${chefscircle.users.availability.false-positive-rate:0.01}") double falsePositiveRate,
+                                   @Value("${chefscircle.users.availability.rebuild-chunk-size:5000}") int rebuildChunkSize) {
+        this.userRepository = userRepository;
+        this.falsePositiveRate = falsePositiveRate;
+        this.rebuildChunkSize = rebuildChunkSize;
+    }
+
+    public boolean isUsernameTaken(String username) {
+        Filters current = current();
+        if (!current.usernames().mightContain(normalize(username))) {
+            answeredFromMemory.incrementAndGet();
+            return false;
+        }
+        databaseProbes.incrementAndGet();
+        return userRepository.existsByUsername(username);
+    }
+
+    public boolean isEmailTaken(String email) {
+        Filters current = current();
+        if (!current.emails().mightContain(normalize(email))) {
+            answeredFromMemory.incrementAndGet();
+            return false;
+        }
+        databaseProbes.incrementAndGet();
+        return userRepository.existsByEmail(email);
+    }
+
+    /**
+     * Records the handles of a user that was just created or renamed.
+     */
+    public void record(String username, String email) {
+        // Read the in-progress filter first: if a rebuild swaps it in right after, the value is already there
+        Filters next = building;
+        Filters current = current();
+        add(current, username, email);
+        if (next != null && next != current) {
+            add(next, username, email);
+        }
+    }
+
+    /**
+     * Notes that a username or email is no longer in use; its bits stay set until the next rebuild.
+     */
+    public void recordRemoved(int count) {
+        staleEntries.addAndGet(count);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        long total = userRepository.count();
+        // Leave room to grow so the filter does not saturate right after startup
+        int capacity = (int) Math.min(Integer.MAX_VALUE, Math.max(1024L, total * 2));
+        Filters next = new Filters(new BloomFilter(capacity, falsePositiveRate),
+                new BloomFilter(capacity, falsePositiveRate));
+        building = next;
+        try {
+            long afterId = 0L;
+            List<UserHandleDTO> handles;
+            do {
+                handles = userRepository.findHandlesAfter(afterId, Limit.of(rebuildChunkSize));
+                for (UserHandleDTO handle : handles) {
+                    add(next, handle.getUsername(), handle.getEmail());
+                    afterId = handle.getId();
+                }
+            } while (handles.size() == rebuildChunkSize);
+            filters = next;
+            staleEntries.set(0);
+        } finally {
+            building = null;
+        }
+        System.out.println("User availability filters rebuilt: " + next.usernames().getAddedCount()
+                + " users, " + next.usernames().getBitCount() + " bits x " + next.usernames().getHashCount()
+                + " hashes per filter");
+    }
+
+    @Scheduled(initialDelayString = "${chefscircle.users.availability.rebuild-check-ms:600000}",
+               fixedDelayString = "${chefscircle.users.availability.rebuild-check-ms:600000}")
+    public void rebuildIfNeeded() {
+        Filters current = filters;
+        if (current == null) {
+            return;
+        }
+        boolean saturated = current.usernames().isSaturated() || current.emails().isSaturated();
+        boolean stale = staleEntries.get() > current.usernames().getCapacity() / 4;
+        if (saturated || stale) {
+            try {
+                rebuild();
+            } catch (RuntimeException e) {
+                System.out.println("User availability filter rebuild failed: " + e.getMessage());
+            }
+        }
+    }
+
+    public Map<String, Object> getStatistics() {
+        Filters current = current();
+        return Map.of(
+                "capacity", current.usernames().getCapacity(),
+                "users", current.usernames().getAddedCount(),
+                "staleEntries", staleEntries.get(),
+                "answeredFromMemory", answeredFromMemory.get(),
+                "databaseProbes", databaseProbes.get());
+    }
+
+    /**
+     * Canonical key for a username or email: compatibility-decomposed, accents dropped,
+     * fully case-folded (so "ß" and "SS" collide) and trimmed.
+     */
+    static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        String folded = MARKS.matcher(Normalizer.normalize(value, Normalizer.Form.NFKD)).replaceAll("");
+        return folded.toUpperCase(Locale.ROOT).toLowerCase(Locale.ROOT).strip();
+    }
+
+    private static void add(Filters target, String username, String email) {
+        if (username != null) {
+            target.usernames().add(normalize(username));
+        }
+        if (email != null) {
+            target.emails().add(normalize(email));
+        }
+    }
+
+    private Filters current() {
+        Filters current = filters;
+        if (current == null) {
+            rebuild();
+            current = filters;
+        }
+        return current;
+    }
+
+    private record Filters(BloomFilter usernames, BloomFilter emails) {
+    }
+}
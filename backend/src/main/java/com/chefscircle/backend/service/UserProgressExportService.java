@@ -0,0 +1,134 @@
+package com.chefscircle.backend.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.Callable;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.chefscircle.backend.repository.UserProgressExportRepository;
+import com.chefscircle.backend.repository.UserProgressExportRepository.ProgressRow;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Writes user_progress exports straight from the database cursor to the response
+ * as NDJSON (one object per line) or CSV. Only one row is held at a time.
+ */
+@Service
+public class UserProgressExportService {
+
+    public enum Format {
+        NDJSON, CSV
+    }
+
+    private static final Object TIMEOUT_INTERCEPTOR_KEY = UserProgressExportService.class.getName() + ".timeout";
+
+    private static final String CSV_HEADER = "id,userId,lessonId,status,completedAt,score,createdAt\n";
+
+    private final UserProgressExportRepository exportRepository;
+    private final ObjectMapper objectMapper;
+    private final long timeoutMs;
+
+    public UserProgressExportService(UserProgressExportRepository exportRepository, ObjectMapper objectMapper,
+                                     @Value("${chefscircle.progress.export.timeout-ms:1800000}") long timeoutMs) {
+        this.exportRepository = exportRepository;
+        this.objectMapper = objectMapper;
+        this.timeoutMs = timeoutMs;
+    }
+
+    /**
+     * Exports can run for minutes, so the returned body gets its own async timeout
+     * instead of the app-wide {@code spring.mvc.async.request-timeout}. Must be called
+     * from the handler method of {@code request}.
+     */
+    public StreamingResponseBody export(HttpServletRequest request, Format format,
+                                        LocalDateTime from, LocalDateTime to, String status) {
+        WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(TIMEOUT_INTERCEPTOR_KEY,
+                new CallableProcessingInterceptor() {
+                    @Override
+                    public <T> void beforeConcurrentHandling(NativeWebRequest webRequest, Callable<T> task) {
+                        // Runs just before async processing starts, while the timeout can still be changed
+                        if (webRequest instanceof AsyncWebRequest asyncRequest) {
+                            asyncRequest.setTimeout(timeoutMs);
+                        }
+                    }
+                });
+        return out -> {
+            long rows = format == Format.CSV
+                    ? writeCsv(out, from, to, status)
+                    : writeNdjson(out, from, to, status);
+            System.out.println("Exported " + rows + " user progress rows as " + format);
+        };
+    }
+
+    private long writeNdjson(OutputStream out, LocalDateTime from, LocalDateTime to, String status) throws IOException {
+        try (JsonGenerator json = objectMapper.getFactory().createGenerator(out)) {
+            // The generator closing must not close the servlet stream under us
+            json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // Lines are separated by the '\n' written below; the default separator would start each with a space
+            json.setRootValueSeparator(null);
+            long rows = exportRepository.streamProgress(from, to, status, row -> {
+                json.writeStartObject();
+                json.writeNumberField("id", row.id());
+                json.writeNumberField("userId", row.userId());
+                json.writeNumberField("lessonId", row.lessonId());
+                json.writeStringField("status", row.status());
+                json.writeStringField("completedAt", format(row.completedAt()));
+                if (row.score() == null) {
+                    json.writeNullField("score");
+                } else {
+                    json.writeNumberField("score", row.score());
+                }
+                json.writeStringField("createdAt", format(row.createdAt()));
+                json.writeEndObject();
+                json.writeRaw('\n');
+            });
+            json.flush();
+            return rows;
+        }
+    }
+
+    private long writeCsv(OutputStream out, LocalDateTime from, LocalDateTime to, String status) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        long rows = exportRepository.streamProgress(from, to, status, row -> writeCsvRow(writer, row));
+        writer.flush();
+        return rows;
+    }
+
+    // Every column is numeric, an enum value or a timestamp, so no quoting is needed
+    private static void writeCsvRow(Writer writer, ProgressRow row) throws IOException {
+        writer.write(Long.toString(row.id()));
+        writer.write(',');
+        writer.write(Long.toString(row.userId()));
+        writer.write(',');
+        writer.write(Long.toString(row.lessonId()));
+        writer.write(',');
+        writer.write(row.status() == null ? "" : row.status());
+        writer.write(',');
+        writer.write(row.completedAt() == null ? "" : row.completedAt().toString());
+        writer.write(',');
+        writer.write(row.score() == null ? "" : row.score().toString());
+        writer.write(',');
+        writer.write(row.createdAt() == null ? "" : row.createdAt().toString());
+        writer.write('\n');
+    }
+
+    private static String format(LocalDateTime value) {
+        return value == null ? null : value.toString();
+    }
+}
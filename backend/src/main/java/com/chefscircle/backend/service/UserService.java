@@ -2,87 +2,150 @@ package com.chefscircle.backend.service;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
+import com.chefscircle.backend.model.PageDTO;
 import com.chefscircle.backend.model.User;
 import com.chefscircle.backend.repository.UserRepository;
 
+import jakarta.annotation.PreDestroy;
+
 // Business logic around users intentionally concise here to avoid over commenting
 @Service
 public class UserService {
 
     private final UserRepository userRepository;
+    private final LeaderboardService leaderboardService;
+    private final TableStatsService tableStatsService;
+    private final AchievementService achievementService;
+    private final CompletedLessonIndex completedLessonIndex;
+    private final UserAvailabilityService availabilityService;
+    private final PasswordHashingService passwordHashingService;
+
+    // Database work that follows a hash runs here, so the hashing pool only ever hashes
+    private final ExecutorService followUpExecutor = Executors.newVirtualThreadPerTaskExecutor();
 
     // Constructor injection for dependency management (preferred in new code)
-    public UserService(UserRepository userRepository) {
+    public UserService(UserRepository userRepository, LeaderboardService leaderboardService,
+                       TableStatsService tableStatsService, AchievementService achievementService,
+                       CompletedLessonIndex completedLessonIndex, UserAvailabilityService availabilityService,
+                       PasswordHashingService passwordHashingService) {
         this.userRepository = userRepository;
+        this.leaderboardService = leaderboardService;
+        this.tableStatsService = tableStatsService;
+        this.achievementService = achievementService;
+        this.completedLessonIndex = completedLessonIndex;
+        this.availabilityService = availabilityService;
+        this.passwordHashingService = passwordHashingService;
     }
 
-    public Optional<User> authenticateUser(String email, String password) {
+    /**
+     * Checks the password on the hashing pool. Hashes made with outdated parameters
+     * (and legacy plaintext values) are replaced transparently on a successful login.
+     * Fails with {@link PasswordHashingService.BusyException} when hashing is at capacity.
+     */
+    public CompletableFuture<Optional<User>> authenticateUser(String email, String password) {
         Optional<User> userOptional = userRepository.findByEmail(email);
-        
-        if (userOptional.isPresent()) {
+        String storedPwd = userOptional.map(User::getPwd).orElse(null);
+
+        return passwordHashingService.verifyAsync(password, storedPwd).thenApplyAsync(result -> {
+            if (!result.matches()) {
+                return Optional.empty();
+            }
             User user = userOptional.get();
-            // FIXME plain text password check replace with hashing later
-            // System.out.println("User authenticated: " + user.getEmail()) // left from a debug session
-            if (password.equals(user.getPwd())) {
-                return Optional.of(user);
+            if (result.rehash() != null) {
+                try {
+                    userRepository.replacePwd(user.getId(), storedPwd, result.rehash());
+                } catch (RuntimeException e) {
+                    // The password was right; the upgrade is retried at the next login
+                    System.out.println("Password rehash failed for user " + user.getId() + ": " + e.getMessage());
+                }
             }
-        }
-        
-        return Optional.empty();
+            return Optional.of(user);
+        }, followUpExecutor);
     }
 
-    public ResponseEntity<?> createUser(User newUser) {
+    /**
+     * Validates and saves a new user. The password is hashed on the hashing pool and the
+     * save runs once the hash is ready, so the request thread is never held for it.
+     */
+    public CompletableFuture<ResponseEntity<?>> createUser(User newUser) {
         // Basic validation
         if (newUser.getName() == null || newUser.getName().trim().isEmpty()) {
-            return ResponseEntity.badRequest().body("Name is required");
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().body("Name is required"));
         }
         
         if (newUser.getEmail() == null || newUser.getEmail().trim().isEmpty()) {
-            return ResponseEntity.badRequest().body("Email is required");
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().body("Email is required"));
         }
         
         if (newUser.getUsername() == null || newUser.getUsername().trim().isEmpty()) {
-            return ResponseEntity.badRequest().body("Username is required");
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().body("Username is required"));
         }
         
         if (newUser.getPwd() == null || newUser.getPwd().trim().isEmpty()) {
-            return ResponseEntity.badRequest().body("Password is required");
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().body("Password is required"));
         }
 
-        if (userRepository.findByUsername(newUser.getUsername()).isPresent()) {
-            return ResponseEntity.status(HttpStatus.CONFLICT).body("Username is already taken");
+        if (availabilityService.isUsernameTaken(newUser.getUsername())) {
+            return CompletableFuture.completedFuture(
+                    ResponseEntity.status(HttpStatus.CONFLICT).body("Username is already taken"));
         }
 
-        if (userRepository.findByEmail(newUser.getEmail()).isPresent()) {
-            return ResponseEntity.status(HttpStatus.CONFLICT).body("Email is already in use");
+        if (availabilityService.isEmailTaken(newUser.getEmail())) {
+            return CompletableFuture.completedFuture(
+                    ResponseEntity.status(HttpStatus.CONFLICT).body("Email is already in use"));
         }
 
-        User savedUser = userRepository.save(newUser);
-        return ResponseEntity.status(HttpStatus.CREATED).body(savedUser);
+        return passwordHashingService.hashAsync(newUser.getPwd())
+                .<ResponseEntity<?>>thenApplyAsync(hash -> {
+                    newUser.setPwd(hash);
+                    User savedUser;
+                    try {
+                        savedUser = userRepository.save(newUser);
+                    } catch (DataIntegrityViolationException e) {
+                        // Lost a race with a concurrent signup; the unique keys are the final word
+                        return ResponseEntity.status(HttpStatus.CONFLICT).body("Username or email is already in use");
+                    }
+                    availabilityService.record(savedUser.getUsername(), savedUser.getEmail());
+                    leaderboardService.recordXp(savedUser.getId(), savedUser.getXp() == null ? 0 : savedUser.getXp());
+                    return ResponseEntity.status(HttpStatus.CREATED).body(savedUser);
+                }, followUpExecutor)
+                .exceptionally(UserService::serviceBusyOrRethrow);
     }
 
-    public ResponseEntity<?> updateUser(Long id, User updatedUser) {
+    /**
+     * Applies a profile update. A new password is hashed on the hashing pool first, the
+     * same way as {@link #createUser}.
+     */
+    public CompletableFuture<ResponseEntity<?>> updateUser(Long id, User updatedUser) {
         Optional<User> existingUserOptional = userRepository.findById(id);
         
         if (existingUserOptional.isEmpty()) {
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).body("User not found");
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.NOT_FOUND).body("User not found"));
         }
 
         User userToUpdate = existingUserOptional.get();
         
         boolean isUsernameChanged = !userToUpdate.getUsername().equals(updatedUser.getUsername());
-        if (isUsernameChanged && userRepository.findByUsername(updatedUser.getUsername()).isPresent()) {
-            return ResponseEntity.status(HttpStatus.CONFLICT).body("Username is already taken");
+        if (isUsernameChanged && availabilityService.isUsernameTaken(updatedUser.getUsername())) {
+            return CompletableFuture.completedFuture(
+                    ResponseEntity.status(HttpStatus.CONFLICT).body("Username is already taken"));
         }
         
         boolean isEmailChanged = !userToUpdate.getEmail().equals(updatedUser.getEmail());
-        if (isEmailChanged && userRepository.findByEmail(updatedUser.getEmail()).isPresent()) {
-            return ResponseEntity.status(HttpStatus.CONFLICT).body("Email is already in use");
+        if (isEmailChanged && availabilityService.isEmailTaken(updatedUser.getEmail())) {
+            return CompletableFuture.completedFuture(
+                    ResponseEntity.status(HttpStatus.CONFLICT).body("Email is already in use"));
         }
         
         userToUpdate.setName(updatedUser.getName());
@@ -94,16 +157,35 @@ public class UserService {
             userToUpdate.setIsAdmin(updatedUser.getIsAdmin());
         }
         
-        if (updatedUser.getPwd() != null && !updatedUser.getPwd().trim().isEmpty()) {
-            userToUpdate.setPwd(updatedUser.getPwd());
-        }
-        
-        User savedUser = userRepository.save(userToUpdate);
-        return ResponseEntity.ok(savedUser);
+        boolean isPwdChanged = updatedUser.getPwd() != null && !updatedUser.getPwd().trim().isEmpty();
+        CompletableFuture<String> newPwd = isPwdChanged
+                ? passwordHashingService.hashAsync(updatedUser.getPwd())
+                : CompletableFuture.completedFuture(null);
+
+        return newPwd.<ResponseEntity<?>>thenApplyAsync(hash -> {
+            if (hash != null) {
+                userToUpdate.setPwd(hash);
+            }
+            User savedUser;
+            try {
+                savedUser = userRepository.save(userToUpdate);
+            } catch (DataIntegrityViolationException e) {
+                return ResponseEntity.status(HttpStatus.CONFLICT).body("Username or email is already in use");
+            }
+            if (isUsernameChanged || isEmailChanged) {
+                availabilityService.record(isUsernameChanged ? savedUser.getUsername() : null,
+                        isEmailChanged ? savedUser.getEmail() : null);
+                availabilityService.recordRemoved((isUsernameChanged ? 1 : 0) + (isEmailChanged ? 1 : 0));
+            }
+            return ResponseEntity.ok(savedUser);
+        }, followUpExecutor).exceptionally(UserService::serviceBusyOrRethrow);
     }
 
-    public List<User> getAllUsers() {
-        return userRepository.findAll();
+    public PageDTO<User> getUsersPage(Long after, int limit, boolean includeTotal) {
+        List<User> fetched = userRepository.findByIdGreaterThanOrderByIdAsc(
+                KeysetPaging.cursor(after), KeysetPaging.fetchLimit(limit));
+        Long total = includeTotal ? tableStatsService.estimateRowCount("users") : null;
+        return PageDTO.of(fetched, limit, User::getId, total);
     }
 
     public Optional<User> findUserById(Long id) {
@@ -135,8 +217,30 @@ public class UserService {
     public boolean deleteUserById(Long id) {
         if (userRepository.existsById(id)) {
             userRepository.deleteById(id);
+            leaderboardService.removeUser(id);
+            achievementService.evict(id);
+            completedLessonIndex.evict(id);
+            availabilityService.recordRemoved(2);
             return true; // HACK: hard delete
         }
         return false;
     }
-} 
\ No newline at end of file
+
+    @PreDestroy
+    public void shutdown() {
+        followUpExecutor.shutdownNow();
+    }
+
+    /**
+     * Maps a saturated hashing pool to 503 with a Retry-After; any other failure propagates.
+     */
+    public static ResponseEntity<?> serviceBusyOrRethrow(Throwable e) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        if (cause instanceof PasswordHashingService.BusyException) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body("Server is busy, please try again");
+        }
+        throw e instanceof CompletionException completion ? completion : new CompletionException(cause);
+    }
+}
@@ -0,0 +1,274 @@
+package com.chefscircle.backend.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Order-statistic treap over (xp descending, userId ascending).
+ * Every node tracks its subtree size, so insert, remove, rank-of and
+ * select-by-rank are all O(log n). Ranks are 1-based; ties on XP are
+ * broken by the lower user id ranking first.
+ */
+public class XpRankIndex {
+
+    private final Map<Long, Integer> xpByUser = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Node root;
+
+    /**
+     * Inserts the user or moves them to their new XP.
+     */
+    public void put(long userId, int xp) {
+        lock.writeLock().lock();
+        try {
+            Integer previous = xpByUser.put(userId, xp);
+            if (previous != null) {
+                if (previous == xp) {
+                    return;
+                }
+                root = erase(root, previous, userId);
+            }
+            root = insert(root, new Node(xp, userId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Inserts the user only if they are not indexed yet, so a value read from the database
+     * never replaces a newer one recorded in the meantime.
+     */
+    public void putIfAbsent(long userId, int xp) {
+        lock.writeLock().lock();
+        try {
+            if (xpByUser.putIfAbsent(userId, xp) == null) {
+                root = insert(root, new Node(xp, userId));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long userId) {
+        lock.writeLock().lock();
+        try {
+            Integer previous = xpByUser.remove(userId);
+            if (previous != null) {
+                root = erase(root, previous, userId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size(root);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Integer xpOf(long userId) {
+        lock.readLock().lock();
+        try {
+            return xpByUser.get(userId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns up to {@code count} entries starting at 1-based {@code fromRank}, best first.
+     */
+    public List<Entry> range(int fromRank, int count) {
+        lock.readLock().lock();
+        try {
+            return rangeLocked(fromRank, count);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the user's rank, XP and the entries {@code radius} places either side of
+     * them, all read under one lock so they agree with each other, or {@code null} if
+     * the user is not indexed.
+     */
+    public Position positionOf(long userId, int radius) {
+        lock.readLock().lock();
+        try {
+            int rank = rankOfLocked(userId);
+            if (rank == 0) {
+                return null;
+            }
+            int from = Math.max(1, rank - radius);
+            return new Position(rank, xpByUser.get(userId), size(root),
+                    rangeLocked(from, rank + radius - from + 1));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return the user's 1-based rank, or 0 if the user is not indexed
+     */
+    private int rankOfLocked(long userId) {
+        Integer xp = xpByUser.get(userId);
+        if (xp == null) {
+            return 0;
+        }
+        int rank = 0;
+        Node node = root;
+        while (node != null) {
+            int cmp = compare(xp, userId, node);
+            if (cmp < 0) {
+                node = node.left;
+            } else {
+                rank += size(node.left) + 1;
+                if (cmp == 0) {
+                    return rank;
+                }
+                node = node.right;
+            }
+        }
+        return 0;
+    }
+
+    private List<Entry> rangeLocked(int fromRank, int count) {
+        List<Entry> entries = new ArrayList<>(Math.max(0, count));
+        int total = size(root);
+        int start = Math.max(1, fromRank);
+        int end = Math.min(total, start + count - 1);
+        for (int rank = start; rank <= end; rank++) {
+            Node node = select(rank - 1);
+            entries.add(new Entry(rank, node.userId, node.xp));
+        }
+        return entries;
+    }
+
+    private Node select(int index) {
+        Node node = root;
+        while (node != null) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+        throw new IllegalStateException("Rank out of range");
+    }
+
+    private static Node insert(Node node, Node added) {
+        if (node == null) {
+            return added;
+        }
+        if (added.priority > node.priority) {
+            Node[] parts = split(node, added.xp, added.userId);
+            added.left = parts[0];
+            added.right = parts[1];
+            return added.update();
+        }
+        if (compare(added.xp, added.userId, node) < 0) {
+            node.left = insert(node.left, added);
+        } else {
+            node.right = insert(node.right, added);
+        }
+        return node.update();
+    }
+
+    private static Node erase(Node node, int xp, long userId) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = compare(xp, userId, node);
+        if (cmp == 0) {
+            return merge(node.left, node.right);
+        }
+        if (cmp < 0) {
+            node.left = erase(node.left, xp, userId);
+        } else {
+            node.right = erase(node.right, xp, userId);
+        }
+        return node.update();
+    }
+
+    /**
+     * Splits into keys ordered before (xp, userId) and keys at or after it.
+     */
+    private static Node[] split(Node node, int xp, long userId) {
+        if (node == null) {
+            return new Node[] {null, null};
+        }
+        if (compare(xp, userId, node) <= 0) {
+            Node[] parts = split(node.left, xp, userId);
+            node.left = parts[1];
+            parts[1] = node.update();
+            return parts;
+        }
+        Node[] parts = split(node.right, xp, userId);
+        node.right = parts[0];
+        parts[0] = node.update();
+        return parts;
+    }
+
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            return left.update();
+        }
+        right.left = merge(left, right.left);
+        return right.update();
+    }
+
+    private static int compare(int xp, long userId, Node node) {
+        if (xp != node.xp) {
+            return xp > node.xp ? -1 : 1;
+        }
+        return Long.compare(userId, node.userId);
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    public record Entry(int rank, long userId, int xp) {
+    }
+
+    public record Position(int rank, int xp, int totalUsers, List<Entry> window) {
+    }
+
+    private static final class Node {
+        final int xp;
+        final long userId;
+        final int priority = ThreadLocalRandom.current().nextInt();
+        int size = 1;
+        Node left;
+        Node right;
+
+        Node(int xp, long userId) {
+            this.xp = xp;
+            this.userId = userId;
+        }
+
+        Node update() {
+            size = 1 + XpRankIndex.size(left) + XpRankIndex.size(right);
+            return this;
+        }
+    }
+}
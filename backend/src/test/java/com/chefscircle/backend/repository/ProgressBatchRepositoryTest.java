@@ -0,0 +1,28 @@
+package com.chefscircle.backend.repository;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+class ProgressBatchRepositoryTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final ProgressBatchRepository repository = new ProgressBatchRepository(jdbcTemplate);
+
+    @Test
+    void findExistingLocksWhatItReads() {
+        repository.findExisting(List.of(7L), List.of(100L, 101L));
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate).query(sql.capture(), any(RowMapper.class), any(Object[].class));
+        assertTrue(sql.getValue().endsWith(" FOR UPDATE"), sql.getValue());
+    }
+}
@@ -0,0 +1,62 @@
+package com.chefscircle.backend.repository;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+class UserProgressUpsertRepositoryTest {
+
+    private static final Long USER_ID = 7L;
+    private static final Long LESSON_ID = 100L;
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final UserProgressUpsertRepository repository = new UserProgressUpsertRepository(jdbcTemplate);
+
+    @Test
+    void completeMovesAnOpenRowToCompleted() {
+        lockedStatusIs("available");
+
+        assertTrue(repository.complete(USER_ID, LESSON_ID, 90));
+        verify(jdbcTemplate).update(contains("SET status = 'completed'"), any(), eq(90), eq(USER_ID), eq(LESSON_ID));
+    }
+
+    @Test
+    void completeLeavesACompletedRowAlone() {
+        lockedStatusIs("completed");
+
+        assertFalse(repository.complete(USER_ID, LESSON_ID, 90));
+        verify(jdbcTemplate, never()).update(contains("SET status = 'completed'"), any(), any(), any(), any());
+    }
+
+    @Test
+    void unlockOnlyOpensLockedRows() {
+        lockedStatusIs("locked");
+        assertTrue(repository.unlock(USER_ID, LESSON_ID));
+
+        lockedStatusIs("completed");
+        assertFalse(repository.unlock(USER_ID, LESSON_ID));
+    }
+
+    @Test
+    void upsertStatusReportsWhetherItLeftCompleted() {
+        lockedStatusIs("completed");
+        assertTrue(repository.upsertStatus(USER_ID, LESSON_ID, "available", null));
+
+        lockedStatusIs("locked");
+        assertFalse(repository.upsertStatus(USER_ID, LESSON_ID, "available", null));
+    }
+
+    private void lockedStatusIs(String status) {
+        when(jdbcTemplate.queryForObject(contains("FOR UPDATE"), eq(String.class), any(Object[].class)))
+                .thenReturn(status);
+    }
+}
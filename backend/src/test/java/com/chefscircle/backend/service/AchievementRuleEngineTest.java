@@ -0,0 +1,110 @@
+package com.chefscircle.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.chefscircle.backend.model.Achievement;
+import com.chefscircle.backend.model.AchievementRuleType;
+import com.chefscircle.backend.model.Cuisine;
+import com.chefscircle.backend.model.Lesson;
+import com.chefscircle.backend.model.Skill;
+import com.chefscircle.backend.repository.AchievementRepository;
+import com.chefscircle.backend.repository.UserAchievementRepository;
+import com.chefscircle.backend.repository.UserProgressRepository;
+
+class AchievementRuleEngineTest {
+
+    private static final Long USER_ID = 7L;
+
+    private final AchievementRepository achievementRepository = mock(AchievementRepository.class);
+    private final UserAchievementRepository userAchievementRepository = mock(UserAchievementRepository.class);
+    private final CompletedLessonIndex completedLessonIndex = mock(CompletedLessonIndex.class);
+    private final CatalogService catalogService = mock(CatalogService.class);
+
+    private AchievementRuleEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        Cuisine cuisine = new Cuisine("Italian", null, null);
+        cuisine.setId(1L);
+        Skill skill = new Skill(1L, "Pasta", null, 1);
+        skill.setId(10L);
+        Lesson first = new Lesson(10L, "Dough", null, 1, 10, null);
+        first.setId(100L);
+        Lesson second = new Lesson(10L, "Sauce", null, 2, 10, null);
+        second.setId(101L);
+        when(catalogService.getSnapshot())
+                .thenReturn(new CatalogSnapshot(List.of(cuisine), List.of(skill), List.of(first, second)));
+
+        when(achievementRepository.findAll()).thenReturn(List.of(
+                achievement(1L, AchievementRuleType.LESSONS_TOTAL, null, 2),
+                achievement(2L, AchievementRuleType.LESSONS_IN_CUISINE, 1L, null)));
+
+        engine = new AchievementRuleEngine(achievementRepository, userAchievementRepository,
+                completedLessonIndex, catalogService, mock(ApplicationEventPublisher.class), 100);
+    }
+
+    @Test
+    void coldCacheCountsTheCompletionAlreadyWrittenByTheCaller() {
+        // Lesson 101's completion has committed, so the completed-lesson index already counts it
+        completedLessons(2);
+        when(userAchievementRepository.findByIdUserId(USER_ID)).thenReturn(List.of());
+
+        List<Long> unlocked = engine.onLessonsCompleted(USER_ID, List.of(101L));
+
+        assertEquals(List.of(1L, 2L), unlocked);
+        verify(userAchievementRepository).saveAll(anyIterable());
+    }
+
+    @Test
+    void replayedCompletionDoesNotUnlockTwice() {
+        completedLessons(2);
+        when(userAchievementRepository.findByIdUserId(USER_ID)).thenReturn(List.of());
+
+        engine.onLessonsCompleted(USER_ID, List.of(101L));
+
+        assertEquals(List.of(), engine.onLessonsCompleted(USER_ID, List.of(101L)));
+    }
+
+    @Test
+    void uncompletedLessonIsNoLongerCounted() {
+        // Counts come from the real index, which the progress write paths patch on every transition
+        UserProgressRepository userProgressRepository = mock(UserProgressRepository.class);
+        when(userProgressRepository.findCompletedLessonIds(USER_ID)).thenReturn(List.of());
+        CompletedLessonIndex index = new CompletedLessonIndex(userProgressRepository, catalogService, 100);
+        AchievementRuleEngine engine = new AchievementRuleEngine(achievementRepository, userAchievementRepository,
+                index, catalogService, mock(ApplicationEventPublisher.class), 100);
+        when(userAchievementRepository.findByIdUserId(USER_ID)).thenReturn(List.of());
+        assertEquals(0, index.countCompleted(USER_ID));
+
+        index.recordCompleted(USER_ID, 100L);
+        assertEquals(List.of(), engine.onLessonsCompleted(USER_ID, List.of(100L)));
+        index.recordUncompleted(USER_ID, 100L);
+        index.recordCompleted(USER_ID, 101L);
+
+        assertEquals(List.of(), engine.onLessonsCompleted(USER_ID, List.of(101L)));
+    }
+
+    private void completedLessons(int count) {
+        when(completedLessonIndex.countCompleted(USER_ID)).thenReturn(count);
+        when(completedLessonIndex.countCompletedInCuisine(USER_ID, 1L)).thenReturn(count);
+    }
+
+    private static Achievement achievement(Long id, AchievementRuleType type, Long targetId, Integer threshold) {
+        Achievement achievement = new Achievement();
+        achievement.setId(id);
+        achievement.setRuleType(type);
+        achievement.setRuleTargetId(targetId);
+        achievement.setRuleThreshold(threshold);
+        return achievement;
+    }
+}
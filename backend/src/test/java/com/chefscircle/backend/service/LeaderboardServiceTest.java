@@ -0,0 +1,71 @@
+package com.chefscircle.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import com.chefscircle.backend.repository.UserRepository;
+
+class LeaderboardServiceTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final LeaderboardService service = new LeaderboardService(jdbcTemplate, userRepository);
+
+    @Test
+    void writesDuringRebuildAreNotLost() {
+        // users.xp as the rebuild's SELECT sees it, before the writes below commit
+        loadDuringRebuild(() -> {
+            service.recordXp(1L, 500);
+            service.removeUser(2L);
+        }, new long[][] {{1L, 100}, {2L, 200}, {3L, 300}});
+
+        service.rebuild();
+
+        assertEquals(Optional.of(500), service.findXp(1L));
+        assertEquals(2, service.positionOf(3L, 0).orElseThrow().getTotalUsers());
+        assertEquals(Optional.empty(), service.positionOf(2L, 0));
+    }
+
+    @Test
+    void findXpDoesNotOverwriteANewerValue() {
+        when(userRepository.findXpById(1L)).thenAnswer(invocation -> {
+            // The award commits while the lookup is in flight
+            service.recordXp(1L, 500);
+            return Optional.of(100);
+        });
+
+        service.findXp(1L);
+
+        assertEquals(Optional.of(500), service.findXp(1L));
+    }
+
+    private void loadDuringRebuild(Runnable concurrentWrites, long[][] rows) {
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            concurrentWrites.run();
+            for (long[] row : rows) {
+                handler.processRow(row(row[0], (int) row[1]));
+            }
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class));
+    }
+
+    private static ResultSet row(long id, int xp) throws SQLException {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getLong("id")).thenReturn(id);
+        when(rs.getInt("xp")).thenReturn(xp);
+        return rs;
+    }
+}
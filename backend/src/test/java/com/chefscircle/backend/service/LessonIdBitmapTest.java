@@ -0,0 +1,137 @@
+package com.chefscircle.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+
+class LessonIdBitmapTest {
+
+    // Low 16 bits of every id share a bucket; 4096 is where an array bucket becomes a bitmap
+    private static final int BUCKET = 1 << 16;
+    private static final int ARRAY_MAX = 4096;
+
+    @Test
+    void toArrayIsAscendingAcrossBuckets() {
+        LessonIdBitmap bitmap = LessonIdBitmap.of(List.of(3L * BUCKET + 1, 5L, BUCKET + 7L, 0L, 3L * BUCKET));
+
+        assertArrayEquals(new long[] {0, 5, BUCKET + 7L, 3L * BUCKET, 3L * BUCKET + 1}, bitmap.toArray());
+    }
+
+    @Test
+    void addAndRemoveReportWhetherTheSetChanged() {
+        LessonIdBitmap bitmap = new LessonIdBitmap();
+
+        assertTrue(bitmap.add(42));
+        assertFalse(bitmap.add(42));
+        assertTrue(bitmap.remove(42));
+        assertFalse(bitmap.remove(42));
+        assertFalse(bitmap.remove(BUCKET + 42L));
+        assertEquals(0, bitmap.cardinality());
+    }
+
+    @Test
+    void convertsToBitmapAboveArrayMaxAndBack() {
+        LessonIdBitmap bitmap = new LessonIdBitmap();
+        // Every other id, so both container types have gaps to get wrong
+        for (int i = 0; i <= ARRAY_MAX; i++) {
+            bitmap.add(2L * i);
+        }
+        assertEquals(ARRAY_MAX + 1, bitmap.cardinality());
+        assertTrue(bitmap.contains(2L * ARRAY_MAX));
+        assertFalse(bitmap.contains(1));
+
+        assertTrue(bitmap.remove(0));
+        assertEquals(ARRAY_MAX, bitmap.cardinality());
+        assertFalse(bitmap.contains(0));
+        assertTrue(bitmap.contains(2));
+
+        // Back in an array container at exactly ARRAY_MAX; growing again must still work
+        assertTrue(bitmap.add(1));
+        assertTrue(bitmap.add(3));
+        long[] ids = bitmap.toArray();
+        assertEquals(ARRAY_MAX + 2, ids.length);
+        assertArrayEquals(new long[] {1, 2, 3, 4}, Arrays.copyOf(ids, 4));
+        assertEquals(2L * ARRAY_MAX, ids[ids.length - 1]);
+    }
+
+    @Test
+    void emptiedBucketIsDroppedWithoutDisturbingNeighbours() {
+        LessonIdBitmap bitmap = LessonIdBitmap.of(List.of(1L, BUCKET + 1L, 2L * BUCKET + 1));
+
+        assertTrue(bitmap.remove(BUCKET + 1L));
+        assertArrayEquals(new long[] {1, 2L * BUCKET + 1}, bitmap.toArray());
+        assertTrue(bitmap.contains(2L * BUCKET + 1));
+
+        assertTrue(bitmap.add(BUCKET + 2L));
+        assertArrayEquals(new long[] {1, BUCKET + 2L, 2L * BUCKET + 1}, bitmap.toArray());
+    }
+
+    @Test
+    void andCardinalityCoversEveryContainerPair() {
+        LessonIdBitmap sparse = new LessonIdBitmap();
+        LessonIdBitmap dense = new LessonIdBitmap();
+        for (int i = 0; i < 10_000; i++) {
+            dense.add(i);
+            dense.add(BUCKET + i);
+        }
+        for (int i = 0; i < 100; i++) {
+            sparse.add(i * 3L);
+            sparse.add(2L * BUCKET + i);
+        }
+        sparse.add(BUCKET + 5L);
+
+        // Array x bitmap in buckets 0 and 1, bitmap x bitmap for dense with itself, bucket 2 only in sparse
+        assertEquals(101, sparse.andCardinality(dense));
+        assertEquals(101, dense.andCardinality(sparse));
+        assertEquals(20_000, dense.andCardinality(dense));
+        assertEquals(201, sparse.andCardinality(sparse));
+    }
+
+    @Test
+    void rejectsIdsOutsideIntRange() {
+        LessonIdBitmap bitmap = new LessonIdBitmap();
+
+        assertThrows(IllegalArgumentException.class, () -> bitmap.add(-1));
+        assertThrows(IllegalArgumentException.class, () -> bitmap.add(Integer.MAX_VALUE + 1L));
+        assertFalse(bitmap.contains(-1));
+        assertFalse(bitmap.remove(Integer.MAX_VALUE + 1L));
+        assertTrue(bitmap.add(Integer.MAX_VALUE));
+        assertArrayEquals(new long[] {Integer.MAX_VALUE}, bitmap.toArray());
+    }
+
+    @Test
+    void matchesATreeSetUnderRandomOperations() {
+        Random random = new Random(20_20);
+        LessonIdBitmap bitmap = new LessonIdBitmap();
+        LessonIdBitmap other = new LessonIdBitmap();
+        TreeSet<Long> expected = new TreeSet<>();
+        TreeSet<Long> expectedOther = new TreeSet<>();
+        for (int step = 0; step < 50_000; step++) {
+            // Two buckets that each grow past 4096 values, so both container types are exercised
+            long id = random.nextInt(2) * (long) BUCKET + random.nextInt(9_000);
+            if (random.nextInt(5) < 3) {
+                assertEquals(expected.add(id), bitmap.add(id));
+            } else {
+                assertEquals(expected.remove(id), bitmap.remove(id));
+            }
+            if (random.nextInt(4) == 0) {
+                expectedOther.add(id);
+                other.add(id);
+            }
+        }
+
+        assertEquals(expected.size(), bitmap.cardinality());
+        assertArrayEquals(expected.stream().mapToLong(Long::longValue).toArray(), bitmap.toArray());
+        expected.retainAll(expectedOther);
+        assertEquals(expected.size(), bitmap.andCardinality(other));
+    }
+}
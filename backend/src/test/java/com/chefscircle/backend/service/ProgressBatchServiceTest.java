@@ -0,0 +1,85 @@
+package com.chefscircle.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.chefscircle.backend.model.Cuisine;
+import com.chefscircle.backend.model.Lesson;
+import com.chefscircle.backend.model.ProgressBatchResultDTO;
+import com.chefscircle.backend.model.Skill;
+import com.chefscircle.backend.model.UserProgress;
+import com.chefscircle.backend.repository.ProgressBatchRepository;
+import com.chefscircle.backend.repository.UserRepository;
+
+class ProgressBatchServiceTest {
+
+    private static final Long USER_ID = 7L;
+    private static final Long LESSON_ID = 100L;
+
+    private final ProgressBatchRepository progressBatchRepository = mock(ProgressBatchRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final CatalogService catalogService = mock(CatalogService.class);
+    private final LessonCompletionPipeline lessonCompletionPipeline = mock(LessonCompletionPipeline.class);
+    private final ProgressRollupService progressRollupService = mock(ProgressRollupService.class);
+    private final LessonUnlockService lessonUnlockService = mock(LessonUnlockService.class);
+    private final CompletedLessonIndex completedLessonIndex = mock(CompletedLessonIndex.class);
+
+    private ProgressBatchService service;
+
+    @BeforeEach
+    void setUp() {
+        Cuisine cuisine = new Cuisine("Italian", null, null);
+        cuisine.setId(1L);
+        Skill skill = new Skill(1L, "Pasta", null, 1);
+        skill.setId(10L);
+        Lesson lesson = new Lesson(10L, "Dough", null, 1, 10, null);
+        lesson.setId(LESSON_ID);
+        when(catalogService.getSnapshot())
+                .thenReturn(new CatalogSnapshot(List.of(cuisine), List.of(skill), List.of(lesson)));
+        when(userRepository.findExistingIds(anyCollection())).thenReturn(List.of(USER_ID));
+
+        service = new ProgressBatchService(progressBatchRepository, userRepository, catalogService,
+                lessonCompletionPipeline, progressRollupService, lessonUnlockService, completedLessonIndex);
+    }
+
+    @Test
+    void concurrentCompletionThatLandsBeforeTheWriteIsNotAwardedTwice() {
+        // A single-row /update completes the lesson while the batch is in flight. findExisting
+        // locks the pair, so that writer either commits before the read (and the read sees it)
+        // or waits until the batch commits; the batch never works from a stale 'available'.
+        UserProgress completedConcurrently = new UserProgress(USER_ID, LESSON_ID, "completed");
+        completedConcurrently.setId(1L);
+        when(progressBatchRepository.findExisting(anyCollection(), anyCollection()))
+                .thenReturn(List.of(completedConcurrently));
+
+        ProgressBatchResultDTO result = service.applyBatch(List.of(new UserProgress(USER_ID, LESSON_ID, "completed")));
+
+        assertEquals(0, result.getCompleted());
+        assertEquals(1, result.getUpdated());
+        verify(progressRollupService).recordTransitions(List.of(), List.of());
+        verify(completedLessonIndex).recordTransitions(List.of(), List.of());
+        verify(lessonUnlockService, never()).unlockAfterAll(any());
+        verify(lessonCompletionPipeline, never()).publishAll(any());
+    }
+
+    @Test
+    void firstCompletionIsPublishedOnce() {
+        when(progressBatchRepository.findExisting(anyCollection(), anyCollection())).thenReturn(List.of());
+
+        ProgressBatchResultDTO result = service.applyBatch(List.of(new UserProgress(USER_ID, LESSON_ID, "completed")));
+
+        assertEquals(1, result.getCompleted());
+        assertEquals(1, result.getInserted());
+        verify(lessonCompletionPipeline).publishAll(any());
+    }
+}
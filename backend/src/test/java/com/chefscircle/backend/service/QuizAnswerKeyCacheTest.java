@@ -0,0 +1,46 @@
+package com.chefscircle.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.chefscircle.backend.model.Quiz;
+import com.chefscircle.backend.repository.QuizRepository;
+
+class QuizAnswerKeyCacheTest {
+
+    private static final Long LESSON_ID = 100L;
+
+    private final QuizRepository quizRepository = mock(QuizRepository.class);
+    private final QuizAnswerKeyCache cache = new QuizAnswerKeyCache(quizRepository);
+
+    @Test
+    void answersAreComparedInNormalizedForm() {
+        QuizAnswerKeyCache.Question question = onlyQuestion(" Al  Dente ");
+
+        assertTrue(question.accepts("al dente"));
+        assertFalse(question.accepts("al dent"));
+    }
+
+    @Test
+    void missingCorrectAnswerAcceptsNothing() {
+        QuizAnswerKeyCache.Question question = onlyQuestion(null);
+
+        assertFalse(question.accepts(null));
+        assertFalse(question.accepts(""));
+        assertFalse(question.accepts("anything"));
+    }
+
+    private QuizAnswerKeyCache.Question onlyQuestion(String correctAnswer) {
+        Quiz quiz = new Quiz();
+        quiz.setId(1L);
+        quiz.setCorrectAnswer(correctAnswer);
+        when(quizRepository.findByLessonIdOrderByOrderIndex(LESSON_ID)).thenReturn(List.of(quiz));
+        return cache.get(LESSON_ID).questions().get(0);
+    }
+}
@@ -0,0 +1,116 @@
+package com.chefscircle.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class XpRankIndexTest {
+
+    @Test
+    void ranksByXpThenLowerUserId() {
+        XpRankIndex index = new XpRankIndex();
+        index.put(3, 50);
+        index.put(1, 50);
+        index.put(2, 80);
+        index.put(4, 10);
+
+        assertEquals(List.of(
+                new XpRankIndex.Entry(1, 2, 80),
+                new XpRankIndex.Entry(2, 1, 50),
+                new XpRankIndex.Entry(3, 3, 50),
+                new XpRankIndex.Entry(4, 4, 10)), index.range(1, 10));
+    }
+
+    @Test
+    void putMovesAUserAndRemoveDropsThem() {
+        XpRankIndex index = new XpRankIndex();
+        index.put(1, 10);
+        index.put(2, 20);
+        index.put(1, 30);
+        index.put(1, 30);
+
+        assertEquals(2, index.size());
+        assertEquals(1, index.positionOf(1, 0).rank());
+
+        index.remove(1);
+        index.remove(1);
+        assertEquals(1, index.size());
+        assertNull(index.xpOf(1));
+        assertNull(index.positionOf(1, 0));
+        assertEquals(List.of(new XpRankIndex.Entry(1, 2, 20)), index.range(1, 10));
+    }
+
+    @Test
+    void putIfAbsentKeepsTheExistingValue() {
+        XpRankIndex index = new XpRankIndex();
+        index.put(1, 500);
+        index.putIfAbsent(1, 100);
+        index.putIfAbsent(2, 100);
+
+        assertEquals(500, index.xpOf(1));
+        assertEquals(2, index.size());
+        assertEquals(2, index.positionOf(2, 0).rank());
+    }
+
+    @Test
+    void windowIsClippedAtBothEnds() {
+        XpRankIndex index = new XpRankIndex();
+        for (long user = 1; user <= 5; user++) {
+            index.put(user, (int) (100 - user));
+        }
+
+        XpRankIndex.Position top = index.positionOf(1, 2);
+        assertEquals(1, top.rank());
+        assertEquals(List.of(1L, 2L, 3L), userIds(top.window()));
+
+        XpRankIndex.Position bottom = index.positionOf(5, 2);
+        assertEquals(5, bottom.rank());
+        assertEquals(95, bottom.xp());
+        assertEquals(5, bottom.totalUsers());
+        assertEquals(List.of(3L, 4L, 5L), userIds(bottom.window()));
+
+        assertEquals(List.of(), index.range(6, 3));
+    }
+
+    @Test
+    void matchesASortedListUnderRandomOperations() {
+        Random random = new Random(8);
+        XpRankIndex index = new XpRankIndex();
+        Map<Long, Integer> expected = new HashMap<>();
+        for (int step = 0; step < 20_000; step++) {
+            long user = random.nextInt(500);
+            if (random.nextInt(4) == 0) {
+                expected.remove(user);
+                index.remove(user);
+            } else {
+                // A narrow XP range so ties, and the user id tie-break, are common
+                int xp = random.nextInt(50);
+                expected.put(user, xp);
+                index.put(user, xp);
+            }
+        }
+
+        List<Map.Entry<Long, Integer>> sorted = new ArrayList<>(expected.entrySet());
+        sorted.sort(Comparator.<Map.Entry<Long, Integer>>comparingInt(Map.Entry::getValue).reversed()
+                .thenComparing(Map.Entry::getKey));
+        List<XpRankIndex.Entry> entries = index.range(1, sorted.size() + 1);
+        assertEquals(sorted.size(), entries.size());
+        for (int i = 0; i < sorted.size(); i++) {
+            Map.Entry<Long, Integer> want = sorted.get(i);
+            assertEquals(new XpRankIndex.Entry(i + 1, want.getKey(), want.getValue()), entries.get(i));
+            assertEquals(i + 1, index.positionOf(want.getKey(), 0).rank());
+        }
+    }
+
+    private static List<Long> userIds(List<XpRankIndex.Entry> entries) {
+        return entries.stream().map(XpRankIndex.Entry::userId).toList();
+    }
+}
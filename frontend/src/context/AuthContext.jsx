@@ -142,6 +142,13 @@ export const AuthProvider = ({ children }) => {
       if (!response.ok) {
         const errorText = await response.text();
         console.log('Error response:', errorText);
+        if (response.status === 429) {
+          const retryAfter = response.headers.get('Retry-After');
+          throw new Error(`Too many login attempts. Please try again in ${retryAfter || 'a few'} seconds.`);
+        }
+        if (response.status === 503) {
+          throw new Error('The server is busy. Please try again in a moment.');
+        }
         throw new Error('Incorrect username or password');
       }
 
@@ -0,0 +1,52 @@
+import { useState, useEffect } from 'react';
+
+/**
+ * Custom hook to check whether a username or email is still free while the user types.
+ * Checks are debounced and only sent for values that pass basic validation.
+ * 
+ * @param {string} field - 'username' or 'email'
+ * @param {string} value - Current input value
+ * @param {boolean} enabled - Whether the value is worth checking yet
+ * @returns {Object} - Object containing available (true/false/null) and checking state
+ */
+export const useAvailability = (field, value, enabled) => {
+  const [available, setAvailable] = useState(null);
+  const [checking, setChecking] = useState(false);
+
+  useEffect(() => {
+    const trimmed = value.trim();
+    if (!enabled || !trimmed) {
+      setAvailable(null);
+      return;
+    }
+
+    const controller = new AbortController();
+    const timer = setTimeout(async () => {
+      setChecking(true);
+      try {
+        const response = await fetch(`/api/users/availability?${field}=${encodeURIComponent(trimmed)}`, {
+          signal: controller.signal
+        });
+        if (!response.ok) {
+          throw new Error(`HTTP error! status: ${response.status}`);
+        }
+        const data = await response.json();
+        setAvailable(field === 'username' ? data.usernameAvailable : data.emailAvailable);
+      } catch (err) {
+        if (err.name === 'AbortError') return;
+        // The server still checks on submit, so a failed lookup just shows nothing
+        console.error(`Error checking ${field} availability:`, err);
+        setAvailable(null);
+      } finally {
+        setChecking(false);
+      }
+    }, 300);
+
+    return () => {
+      clearTimeout(timer);
+      controller.abort();
+    };
+  }, [field, value, enabled]);
+
+  return { available, checking };
+};
@@ -1,9 +1,11 @@
 import { useState, useEffect } from 'react';
+import { useAuth } from '../context/AuthContext';
 import { useUserProgress } from './useUserProgress';
 
 /**
  * Custom hook to calculate progress for a specific cuisine.
- * Fetches all skills and lessons for the cuisine and calculates completion percentage.
+ * Signed-in users read the server-side rollup (one lookup); otherwise the
+ * cuisine tree supplies the lesson total.
  * 
  * @param {number} cuisineId - The ID of the cuisine to calculate progress for
  * @returns {Object} - Object containing progress data and loading state
@@ -16,6 +18,7 @@ export const useCuisineProgress = (cuisineId) => {
   });
   const [loading, setLoading] = useState(false);
   const [error, setError] = useState(null);
+  const { user } = useAuth();
   const { completedLessons } = useUserProgress();
 
   useEffect(() => {
@@ -24,37 +27,29 @@ export const useCuisineProgress = (cuisineId) => {
       return;
     }
 
-    // TODO: Consider extracting this logic into a tiny helper so other hooks can reuse it
     const calculateProgress = async () => {
       setLoading(true);
       setError(null);
 
       try {
-        // First get all skills for this cuisine
-        const skillsResponse = await fetch(`/api/skills/cuisine/${cuisineId}`);
-        if (!skillsResponse.ok) {
-          throw new Error(`HTTP error! status: ${skillsResponse.status}`);
-        }
-        const skills = await skillsResponse.json();
-        // console.log('Fetched skills for cuisine:', skills.length);
-        
-        // Then get all lessons for all skills
-        let totalLessons = 0;
-        let completedLessonsInCuisine = 0;
-        
-        for (const skill of skills) {
-          const lessonsResponse = await fetch(`/api/lessons/skill/${skill.id}`);
-          if (lessonsResponse.ok) {
-            const lessons = await lessonsResponse.json();
-            totalLessons += lessons.length;
-            
-            // Count completed lessons in this cuisine
-            for (const lesson of lessons) {
-              if (completedLessons.has(lesson.id)) {
-                completedLessonsInCuisine++;
-              }
-            }
+        let totalLessons;
+        let completedLessonsInCuisine;
+        if (user?.id) {
+          const rollupResponse = await fetch(`/api/progress-rollups/user/${parseInt(user.id)}/cuisine/${cuisineId}`);
+          if (!rollupResponse.ok) {
+            throw new Error(`HTTP error! status: ${rollupResponse.status}`);
+          }
+          const rollup = await rollupResponse.json();
+          totalLessons = rollup.total;
+          completedLessonsInCuisine = rollup.completed;
+        } else {
+          const treeResponse = await fetch(`/api/cuisines/${cuisineId}/tree`);
+          if (!treeResponse.ok) {
+            throw new Error(`HTTP error! status: ${treeResponse.status}`);
           }
+          const tree = await treeResponse.json();
+          totalLessons = tree.totalLessons;
+          completedLessonsInCuisine = 0;
         }
 
         const percentage = totalLessons > 0 ? (completedLessonsInCuisine / totalLessons) * 100 : 0;
@@ -74,7 +69,7 @@ export const useCuisineProgress = (cuisineId) => {
     };
 
     calculateProgress();
-  }, [cuisineId, completedLessons]);
+  }, [cuisineId, user, completedLessons]);
 
   return { progress, loading, error };
 }; 
\ No newline at end of file
@@ -0,0 +1,52 @@
+import { useState, useEffect } from 'react';
+
+/**
+ * Custom hook to search lessons, their content and quiz questions.
+ * Requests are debounced so typing does not send one request per keystroke.
+ * 
+ * @param {string} query - Free-text query; the last word is matched as a prefix
+ * @returns {Object} - Object containing results, loading state, and error
+ */
+export const useLessonSearch = (query) => {
+  const [results, setResults] = useState([]);
+  const [loading, setLoading] = useState(false);
+  const [error, setError] = useState(null);
+
+  useEffect(() => {
+    const trimmed = query.trim();
+    if (!trimmed) {
+      setResults([]);
+      return;
+    }
+
+    const controller = new AbortController();
+    const timer = setTimeout(async () => {
+      setLoading(true);
+      setError(null);
+
+      try {
+        const response = await fetch(`/api/search/lessons?q=${encodeURIComponent(trimmed)}&limit=10`, {
+          signal: controller.signal
+        });
+        if (!response.ok) {
+          throw new Error(`HTTP error! status: ${response.status}`);
+        }
+        const data = await response.json();
+        setResults(data);
+      } catch (err) {
+        if (err.name === 'AbortError') return;
+        console.error('Error searching lessons:', err);
+        setError(err.message);
+      } finally {
+        setLoading(false);
+      }
+    }, 200);
+
+    return () => {
+      clearTimeout(timer);
+      controller.abort();
+    };
+  }, [query]);
+
+  return { results, loading, error };
+};
@@ -9,7 +9,6 @@ import { useAuth } from '../context/AuthContext';
  */
 export const useUserProgress = () => {
   const { user, updateUser } = useAuth();
-  const [userProgress, setUserProgress] = useState([]);
   const [completedLessons, setCompletedLessons] = useState(new Set());
   const [loading, setLoading] = useState(false);
   const [error, setError] = useState(null);
@@ -28,18 +27,13 @@ export const useUserProgress = () => {
     setError(null);
 
     try {
-      const response = await fetch(`/api/user-progress/user/${parseInt(user.id)}`);
+      // Only completed ids are needed here; the server answers from its per-user bitmap
+      const response = await fetch(`/api/user-progress/user/${parseInt(user.id)}/completed-lessons`);
       if (!response.ok) {
         throw new Error(`HTTP error! status: ${response.status}`);
       }
-      const progress = await response.json();
-      setUserProgress(progress);
-      
-      // Extract completed lesson IDs
-      const completedLessonIds = progress
-        .filter(p => p.status === 'completed')
-        .map(p => parseInt(p.lessonId)); // Ensure lessonId is a number
-      setCompletedLessons(new Set(completedLessonIds));
+      const completed = await response.json();
+      setCompletedLessons(new Set(completed.lessonIds.map(id => parseInt(id))));
     } catch (err) {
       console.error('Error fetching user progress:', err);
       setError(err.message);
@@ -84,12 +78,12 @@ export const useUserProgress = () => {
         throw new Error(`HTTP error! status: ${response.status}`);
       }
 
-      const updatedUser = await response.json();
-      console.log('User updated:', updatedUser);
+      const result = await response.json();
+      console.log('Progress updated:', result);
 
-      // Update the user in the auth context
+      // Update the user's XP in the auth context (includes the reward still being applied)
       if (updateUser) {
-        updateUser(updatedUser);
+        updateUser({ xp: result.xp });
       }
 
       // Update local state immediately
@@ -109,22 +103,73 @@ export const useUserProgress = () => {
     }
   };
 
-  const isLessonCompleted = (lessonId) => {
-    return completedLessons.has(parseInt(lessonId));
+  /**
+   * Submits every quiz answer at once. The server grades the attempt and, if all
+   * answers are correct, completes the lesson in the same request.
+   *
+   * @returns {Object|null} - The graded attempt, or null if the request failed
+   */
+  const submitQuizAttempt = async (lessonId, answers) => {
+    if (!user?.id) {
+      console.error('No user available for submitting quiz attempt');
+      return null;
+    }
+
+    setLoading(true);
+    setError(null);
+
+    try {
+      const response = await fetch(`/api/lessons/${parseInt(lessonId)}/quiz-attempts`, {
+        method: 'POST',
+        headers: {
+          'Content-Type': 'application/json',
+        },
+        body: JSON.stringify({
+          userId: parseInt(user.id),
+          answers: Object.entries(answers).map(([quizId, answer]) => ({
+            quizId: parseInt(quizId),
+            answer
+          }))
+        })
+      });
+
+      if (!response.ok) {
+        const errorText = await response.text();
+        console.error('Error response:', errorText);
+        throw new Error(`HTTP error! status: ${response.status}`);
+      }
+
+      const result = await response.json();
+
+      if (result.progress) {
+        // Update the user's XP in the auth context (includes the reward still being applied)
+        if (updateUser) {
+          updateUser({ xp: result.progress.xp });
+        }
+        setCompletedLessons(prev => new Set([...prev, parseInt(lessonId)]));
+      }
+
+      return result;
+    } catch (err) {
+      console.error('Error submitting quiz attempt:', err);
+      setError(err.message);
+      return null;
+    } finally {
+      setLoading(false);
+    }
   };
 
-  const getLessonProgress = (lessonId) => {
-    return userProgress.find(p => p.lessonId === parseInt(lessonId));
+  const isLessonCompleted = (lessonId) => {
+    return completedLessons.has(parseInt(lessonId));
   };
 
   return {
-    userProgress,
     completedLessons,
     loading,
     error,
     saveLessonCompletion,
+    submitQuizAttempt,
     isLessonCompleted,
-    getLessonProgress,
     refreshProgress: fetchUserProgress
   };
 };
@@ -39,19 +39,29 @@ export default function AdminPanel() {
   const [users, setUsers] = useState([]);
   const [usersLoading, setUsersLoading] = useState(false);
   const [usersError, setUsersError] = useState(null);
+  const [nextCursor, setNextCursor] = useState(null);
+
+  // Users are served in id-ordered pages; "after" is the cursor returned by the previous page
+  const fetchUsersPage = (after) => {
+    setUsersLoading(true);
+    setUsersError(null);
+    const query = after ? `?after=${after}` : "";
+    fetch(`/api/users${query}`)
+      .then((res) => {
+        if (!res.ok) throw new Error("Failed to fetch users");
+        return res.json();
+      })
+      .then((page) => {
+        setUsers((users) => (after ? [...users, ...page.items] : page.items));
+        setNextCursor(page.hasMore ? page.nextCursor : null);
+      })
+      .catch(() => setUsersError("Could not fetch users."))
+      .finally(() => setUsersLoading(false));
+  };
 
   useEffect(() => {
     if (view === "users") {
-      setUsersLoading(true);
-      setUsersError(null);
-      fetch("/api/users")
-        .then((res) => {
-          if (!res.ok) throw new Error("Failed to fetch users");
-          return res.json();
-        })
-        .then((data) => setUsers(data))
-        .catch(() => setUsersError("Could not fetch users."))
-        .finally(() => setUsersLoading(false));
+      fetchUsersPage(null);
     }
   }, [view]);
 
@@ -114,7 +124,7 @@ export default function AdminPanel() {
           <h2>All Users</h2>
         </div>
         <div className="users-section">
-          {usersLoading ? (
+          {usersLoading && users.length === 0 ? (
             <div className="loading-section">Loading users...</div>
           ) : usersError ? (
             <div className="demo-error">{usersError}</div>
@@ -164,6 +174,15 @@ export default function AdminPanel() {
               ))}
             </div>
           )}
+          {nextCursor && !usersError && (
+            <button
+              className="start-lesson-btn panel-button"
+              onClick={() => fetchUsersPage(nextCursor)}
+              disabled={usersLoading}
+            >
+              {usersLoading ? "Loading..." : "Load More"}
+            </button>
+          )}
         </div>
       </div>
     );
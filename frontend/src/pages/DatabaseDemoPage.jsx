@@ -4,6 +4,7 @@ import { useNavigate } from 'react-router-dom';
 const DatabaseDemoPage = () => {
   const navigate = useNavigate();
   const [users, setUsers] = useState([]);
+  const [totalEstimate, setTotalEstimate] = useState(null);
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState(null);
 
@@ -12,15 +13,16 @@ const DatabaseDemoPage = () => {
     setError(null);
     
     try {
-      const response = await fetch('/api/users');
+      const response = await fetch('/api/users?includeTotal=true');
       
       if (!response.ok) {
         throw new Error(`HTTP error! status: ${response.status}`);
       }
       
-      const userData = await response.json();
-      setUsers(userData);
-      console.log('Fetched users:', userData);
+      const page = await response.json();
+      setUsers(page.items);
+      setTotalEstimate(page.totalEstimate);
+      console.log('Fetched users:', page);
     } catch (error) {
       console.error('Error fetching users:', error);
       setError('Failed to fetch users. Please try again.');
@@ -45,7 +47,7 @@ const DatabaseDemoPage = () => {
       
       <div className="database-demo-section">
         <h3>Database Integration Demo</h3>
-        <p>This page shows all registered users in the database.</p>
+        <p>This page shows the first page of registered users in the database.</p>
         <p>Connected to: /api/users (proxied to http://localhost:8080/backend/api/users)</p>
         
         {loading && (
@@ -62,7 +64,7 @@ const DatabaseDemoPage = () => {
 
         {!loading && !error && users.length > 0 && (
           <div className="users-section">
-            <h4>Database Users ({users.length} total)</h4>
+            <h4>Database Users ({users.length} shown{totalEstimate != null ? `, ~${totalEstimate} total` : ''})</h4>
             <div className="users-grid">
               {users.map((user) => (
                 <div key={user.id} className="user-card">
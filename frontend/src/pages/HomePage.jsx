@@ -5,6 +5,7 @@ import { useCuisines } from '../hooks/useCuisines';
 import { useCuisineProgress } from '../hooks/useCuisineProgress';
 import { useAchievements } from '../hooks/useAchievements';
 import { useFavoriteCuisines } from '../hooks/useFavoriteCuisines';
+import { useLessonSearch } from '../hooks/useLessonSearch';
 import './HomePage.css';
 
 // Helper to get flag image URL from ISO code
@@ -21,6 +22,7 @@ const HomePage = () => {
   const { cuisines, loading: cuisinesLoading, error: cuisinesError } = useCuisines();
   const { favoriteIds, toggleFavorite } = useFavoriteCuisines();
   const { achievements, loading: achievementsLoading, error: achievementsError } = useAchievements();
+  const { results: lessonResults } = useLessonSearch(cuisineQuery);
 
   // TODO: This search could be moved into a small reusable hook if we add more filters later
   const filteredCuisines = useMemo(() => {
@@ -77,8 +79,8 @@ const HomePage = () => {
             type="text"
             value={cuisineQuery}
             onChange={(e) => setCuisineQuery(e.target.value)}
-            placeholder="Search Cuisines... (Example: Italian, Japanese, Mexican, ...)"
-            aria-label="Search cuisines"
+            placeholder="Search cuisines and lessons... (Example: Italian, pasta, knife skills, ...)"
+            aria-label="Search cuisines and lessons"
             className="search-input"
           />
         </div>
@@ -101,11 +103,29 @@ const HomePage = () => {
             <p>No cuisines available at the moment.</p>
           </div>
         )}
-        {cuisines.length > 0 && filteredCuisines.length === 0 && (
+        {cuisines.length > 0 && filteredCuisines.length === 0 && lessonResults.length === 0 && (
           <div className="no-cuisines">
             <p>No cuisines match your search.</p>
           </div>
         )}
+        {lessonResults.length > 0 && (
+          <div className="lesson-search-results">
+            <h4>Lessons</h4>
+            {lessonResults.map((result) => (
+              <button
+                key={result.lessonId}
+                className="lesson-search-result"
+                onClick={() => navigate(`/lesson/${result.lessonId}/incomplete`)}
+              >
+                <span className="lesson-search-icon">{result.icon || '📖'}</span>
+                <span>
+                  <strong>{result.name}</strong>
+                  {result.description && <small>{result.description}</small>}
+                </span>
+              </button>
+            ))}
+          </div>
+        )}
       </div>
 
       <div className="achievements-section">
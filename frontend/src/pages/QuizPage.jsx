@@ -5,117 +5,60 @@ import { useUserProgress } from '../hooks/useUserProgress';
 
 /**
  * QuizPage component that displays an interactive quiz for a lesson.
- * Handles question navigation, answer selection, and scoring.
+ * Answers are collected locally and submitted as one attempt; the server
+ * grades them and completes the lesson when every answer is correct.
  */
 const QuizPage = () => {
   const navigate = useNavigate();
   const { lessonId } = useParams();
   const { lessonData, loading, error } = useLessonData(lessonId);
-  const { saveLessonCompletion, isLessonCompleted } = useUserProgress();
+  const { submitQuizAttempt } = useUserProgress();
   
   // Quiz state
   const [currentQuestion, setCurrentQuestion] = useState(0);
-  const [selectedAnswer, setSelectedAnswer] = useState(null);
-  const [isCorrect, setIsCorrect] = useState(null);
-  const [lessonScore, setLessonScore] = useState(0);
   const [lessonAnswers, setLessonAnswers] = useState({});
-  const [showResults, setShowResults] = useState(false);
-  const [savingCompletion, setSavingCompletion] = useState(false);
+  const [attemptResult, setAttemptResult] = useState(null);
+  const [submitting, setSubmitting] = useState(false);
 
   const handleBackToLesson = () => {
     navigate(`/lesson/${lessonId}/incomplete`);
   };
 
-  const handleAnswerSelect = (answerIndex) => {
-    if (selectedAnswer !== null) return; // Prevent multiple selections
-    
-    setSelectedAnswer(answerIndex);
-    
-    const quizzes = lessonData.quizzes;
-    if (!quizzes || quizzes.length === 0) return;
-    
-    const currentQuiz = quizzes[currentQuestion];
-    
-    // Create options array from quiz data
-    const options = [
-      currentQuiz.correctAnswer,
-      currentQuiz.wrongAnswer1,
-      currentQuiz.wrongAnswer2,
-      currentQuiz.wrongAnswer3
-    ];
-    
-    const correctIndex = 0; // Correct answer is always first in our database structure
-    const isCorrectAnswer = answerIndex === correctIndex;
-    
-    setIsCorrect(isCorrectAnswer);
-    
-    // Track the answer for this question
+  const handleAnswerSelect = (quizId, option) => {
     setLessonAnswers(prev => ({
       ...prev,
-      [currentQuestion]: answerIndex
+      [quizId]: option
     }));
-    
-    if (isCorrectAnswer) {
-      setLessonScore(prev => prev + 1);
-    }
   };
 
-  const handleNextQuestion = () => {
+  const handleNextQuestion = async () => {
     const quizzes = lessonData.quizzes;
     if (!quizzes) return;
     
-    const totalQuestions = quizzes.length;
-    
-    if (currentQuestion + 1 < totalQuestions) {
+    if (currentQuestion + 1 < quizzes.length) {
       // Move to next question
       setCurrentQuestion(currentQuestion + 1);
-      setSelectedAnswer(null);
-      setIsCorrect(null);
-    } else {
-      // Quiz completed
-      setShowResults(true);
+      return;
     }
-  };
 
-  const handleFinishQuiz = async () => {
-    setSavingCompletion(true);
-    
+    // Quiz completed: submit every answer in one request
+    setSubmitting(true);
     try {
-      const totalQuestions = lessonData.quizzes.length;
-      const percentage = Math.round((lessonScore / totalQuestions) * 100);
-      
-      // Only complete the lesson if all questions were answered correctly
-      if (lessonScore === totalQuestions) {
-        console.log('All questions correct, saving lesson completion for lessonId:', lessonId);
-        // Save lesson completion with 100% score - convert lessonId to number
-        const success = await saveLessonCompletion(parseInt(lessonId), 100);
-        
-        console.log('Save lesson completion result:', success);
-        
-        if (success) {
-          // Navigate back to home page after successful completion
-          console.log('Lesson completion saved successfully!');
-          navigate('/');
-        } else {
-          // If saving failed, still navigate but show an error
-          console.error('Failed to save lesson completion');
-          alert('Failed to save lesson completion. Please try again.');
-          navigate('/');
-        }
+      const result = await submitQuizAttempt(lessonId, lessonAnswers);
+      if (result) {
+        setAttemptResult(result);
       } else {
-        // If not all questions correct, just navigate back without saving completion
-        console.log('Lesson not completed - not all questions correct');
-        navigate('/');
+        alert('Failed to submit quiz. Please try again.');
       }
-    } catch (error) {
-      console.error('Error completing lesson:', error);
-      // Still navigate even if there's an error
-      navigate('/');
     } finally {
-      setSavingCompletion(false);
+      setSubmitting(false);
     }
   };
 
+  const handleFinishQuiz = () => {
+    navigate('/');
+  };
+
   // Show loading state while fetching data
   if (loading) {
     return (
@@ -152,10 +95,8 @@ const QuizPage = () => {
   const { lesson, quizzes } = lessonData;
 
   // Show quiz results
-  if (showResults) {
-    const totalQuestions = quizzes.length;
-    const percentage = Math.round((lessonScore / totalQuestions) * 100);
-    const allCorrect = lessonScore === totalQuestions;
+  if (attemptResult) {
+    const { correctCount, totalQuestions, score, passed, results } = attemptResult;
     
     return (
       <main className="app-main">
@@ -168,27 +109,27 @@ const QuizPage = () => {
         
         <div className="quiz-results">
           <div className="results-card">
-            <h3>{allCorrect ? '🎉 Quiz Complete!' : '📝 Quiz Finished'}</h3>
+            <h3>{passed ? '🎉 Quiz Complete!' : '📝 Quiz Finished'}</h3>
             <div className="score-display">
               <div className="score-circle">
-                <span className="score-number">{lessonScore}</span>
+                <span className="score-number">{correctCount}</span>
                 <span className="score-total">/{totalQuestions}</span>
               </div>
-              <p className="score-percentage">{percentage}%</p>
+              <p className="score-percentage">{score}%</p>
             </div>
             
             <div className="score-message">
-              {allCorrect ? (
+              {passed ? (
                 <div>
                   <p>Excellent! You've mastered this lesson! 🏆</p>
-                  <p className="completion-notice">✅ Lesson will be marked as completed!</p>
+                  <p className="completion-notice">✅ Lesson marked as completed!</p>
                 </div>
-              ) : percentage >= 80 ? (
+              ) : score >= 80 ? (
                 <div>
                   <p>Good job! You're very close to mastery! 👍</p>
                   <p className="completion-notice">⚠️ Need all questions correct to complete the lesson</p>
                 </div>
-              ) : percentage >= 60 ? (
+              ) : score >= 60 ? (
                 <div>
                   <p>You're on the right track! Keep practicing! 📚</p>
                   <p className="completion-notice">⚠️ Need all questions correct to complete the lesson</p>
@@ -200,13 +141,26 @@ const QuizPage = () => {
                 </div>
               )}
             </div>
+
+            <ul className="question-review">
+              {results.map((result) => (
+                <li key={result.quizId} className={result.correct ? 'correct' : 'incorrect'}>
+                  {result.correct ? '✅' : '❌'} {quizzes.find(quiz => quiz.id === result.quizId)?.questionText}
+                  {!result.correct && result.correctAnswer && (
+                    <p className="explanation">
+                      Correct answer: {result.correctAnswer}
+                      {result.explanation ? ` — ${result.explanation}` : ''}
+                    </p>
+                  )}
+                </li>
+              ))}
+            </ul>
             
             <button 
               onClick={handleFinishQuiz} 
-              className={`finish-quiz-btn ${allCorrect ? 'success' : 'neutral'}`}
-              disabled={savingCompletion}
+              className={`finish-quiz-btn ${passed ? 'success' : 'neutral'}`}
             >
-              {savingCompletion ? 'Saving...' : allCorrect ? 'Complete Lesson' : 'Continue Learning'}
+              Continue Learning
             </button>
           </div>
         </div>
@@ -218,14 +172,7 @@ const QuizPage = () => {
   if (quizzes && quizzes.length > 0) {
     const currentQuiz = quizzes[currentQuestion];
     const totalQuestions = quizzes.length;
-
-    // Create options array from quiz data
-    const options = [
-      currentQuiz.correctAnswer,
-      currentQuiz.wrongAnswer1,
-      currentQuiz.wrongAnswer2,
-      currentQuiz.wrongAnswer3
-    ];
+    const selectedAnswer = lessonAnswers[currentQuiz.id];
 
     return (
       <main className="app-main">
@@ -236,7 +183,7 @@ const QuizPage = () => {
           <div className="quiz-info">
             <h2>{lesson?.icon || '🧠'} Quiz</h2>
             <div className="question-progress">
-              Question {currentQuestion + 1} of {totalQuestions} • Score: {lessonScore}/{totalQuestions}
+              Question {currentQuestion + 1} of {totalQuestions}
             </div>
           </div>
         </div>
@@ -246,39 +193,24 @@ const QuizPage = () => {
             <h2 className="question-text">{currentQuiz.questionText}</h2>
             
             <div className="options-grid">
-              {options.map((option, index) => (
+              {currentQuiz.options.map((option, index) => (
                 <button
                   key={index}
-                  onClick={() => handleAnswerSelect(index)}
-                  disabled={selectedAnswer !== null}
-                  className={`option-btn ${
-                    selectedAnswer === index 
-                      ? (isCorrect ? 'correct' : 'incorrect')
-                      : ''
-                  } ${selectedAnswer !== null && index === 0 ? 'correct' : ''}`}
+                  onClick={() => handleAnswerSelect(currentQuiz.id, option)}
+                  disabled={submitting}
+                  className={`option-btn ${selectedAnswer === option ? 'selected' : ''}`}
                 >
                   {option}
                 </button>
               ))}
             </div>
 
-            {selectedAnswer !== null && (
+            {selectedAnswer !== undefined && (
               <div className="feedback">
-                <div className={`feedback-message ${isCorrect ? 'correct' : 'incorrect'}`}>
-                  {isCorrect ? (
-                    <>
-                      <span className="feedback-icon">🎉</span>
-                      <span>Correct! Great job!</span>
-                    </>
-                  ) : (
-                    <>
-                      <span className="feedback-icon">💡</span>
-                      <span>Not quite right. The correct answer is highlighted!</span>
-                    </>
-                  )}
-                </div>
-                <button onClick={handleNextQuestion} className="next-btn">
-                  {currentQuestion + 1 < totalQuestions ? 'Next Question →' : 'See Results →'}
+                <button onClick={handleNextQuestion} className="next-btn" disabled={submitting}>
+                  {currentQuestion + 1 < totalQuestions
+                    ? 'Next Question →'
+                    : submitting ? 'Submitting...' : 'Submit Quiz →'}
                 </button>
               </div>
             )}
@@ -309,4 +241,4 @@ const QuizPage = () => {
   );
 };
 
-export default QuizPage; 
\ No newline at end of file
+export default QuizPage;
@@ -1,6 +1,7 @@
 import React, { useState } from 'react';
 import { useAuth } from '../context/AuthContext';
 import { useNavigate, Link } from 'react-router-dom';
+import { useAvailability } from '../hooks/useAvailability';
 
 const SignupPage = () => {
   const [formData, setFormData] = useState({
@@ -13,6 +14,10 @@ const SignupPage = () => {
   const [validationErrors, setValidationErrors] = useState({});
   const { signup, loading, error, clearError } = useAuth();
   const navigate = useNavigate();
+  const { available: usernameAvailable } = useAvailability(
+    'username', formData.username, formData.username.trim().length >= 3);
+  const { available: emailAvailable } = useAvailability(
+    'email', formData.email, /\S+@\S+\.\S+/.test(formData.email));
 
   // Validate form data
   const validateForm = () => {
@@ -28,12 +33,16 @@ const SignupPage = () => {
       errors.username = 'Username is required';
     } else if (formData.username.length < 3) {
       errors.username = 'Username must be at least 3 characters';
+    } else if (usernameAvailable === false) {
+      errors.username = 'Username is already taken';
     }
 
     if (!formData.email.trim()) {
       errors.email = 'Email is required';
     } else if (!/\S+@\S+\.\S+/.test(formData.email)) {
       errors.email = 'Please enter a valid email address';
+    } else if (emailAvailable === false) {
+      errors.email = 'Email is already in use';
     }
 
     // Check password requirements
@@ -163,8 +172,10 @@ const SignupPage = () => {
               className="login-input"
               disabled={loading}
             />
-            {validationErrors.username && (
+            {validationErrors.username ? (
               <div className="login-error">{validationErrors.username}</div>
+            ) : usernameAvailable === false && (
+              <div className="login-error">Username is already taken</div>
             )}
           </div>
 
@@ -179,8 +190,10 @@ const SignupPage = () => {
               className="login-input"
               disabled={loading}
             />
-            {validationErrors.email && (
+            {validationErrors.email ? (
               <div className="login-error">{validationErrors.email}</div>
+            ) : emailAvailable === false && (
+              <div className="login-error">Email is already in use</div>
             )}
           </div>
 